@@ -35,6 +35,7 @@ public class SecurityConfig {
             .csrf().disable()
             .authorizeHttpRequests()
             .requestMatchers("/api/auth/**").permitAll()
+            .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
             .anyRequest().authenticated()
             .and()
             .sessionManagement()
@@ -3,7 +3,7 @@ package com.auth.auth;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {"tracing.collector-token=test-token", "jwt.secret=test-secret-of-at-least-256-bits-for-hs256"})
 class AuthApplicationTests {
 
 	@Test
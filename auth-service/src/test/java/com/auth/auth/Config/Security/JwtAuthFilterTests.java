@@ -0,0 +1,63 @@
+package com.auth.auth.Config.Security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthFilterTests {
+
+	private final JwtUtil jwtUtil = new JwtUtil("test-secret-of-at-least-256-bits-for-hs256");
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final JwtAuthFilter filter = new JwtAuthFilter(jwtUtil, meterRegistry);
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void validTokenIsRecordedAndAuthenticates() throws Exception {
+		String token = jwtUtil.generateToken(new User("alice", "", List.of()));
+
+		filter.doFilter(request("Bearer " + token), new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(verifications("valid")).isEqualTo(1);
+		assertThat(verifications("invalid")).isZero();
+		assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("alice");
+	}
+
+	@Test
+	void invalidTokenIsRecordedAndLeftUnauthenticated() throws Exception {
+		filter.doFilter(request("Bearer not-a-token"), new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(verifications("invalid")).isEqualTo(1);
+		assertThat(verifications("valid")).isZero();
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	@Test
+	void requestWithoutTokenIsNotTimed() throws Exception {
+		filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+		assertThat(verifications("valid") + verifications("invalid")).isZero();
+	}
+
+	private long verifications(String outcome) {
+		return meterRegistry.get("jwt.verification").tag("outcome", outcome).timer().count();
+	}
+
+	private static MockHttpServletRequest request(String authorization) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", authorization);
+		return request;
+	}
+}
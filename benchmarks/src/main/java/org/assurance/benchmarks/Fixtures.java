@@ -0,0 +1,71 @@
+package org.assurance.benchmarks;
+
+import com.customer.customer_service.dtos.requestDTO.CustomerRequestDTO;
+import com.customer.customer_service.entities.Customer;
+import org.assurance.policy_service.entity.Contrat;
+import org.assurance.policy_service.entity.Sinistre;
+import org.assurance.policy_service.entity.enums.TypeContrat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Realistic object graphs shared by the benchmarks: contracts carry a few dozen claims
+ * with non-trivial descriptions, customers carry full contact details.
+ */
+public final class Fixtures {
+
+    private static final TypeContrat[] TYPES = TypeContrat.values();
+
+    private Fixtures() {
+    }
+
+    public static Contrat contrat(long id, long clientId, int sinistres) {
+        Contrat contrat = new Contrat();
+        contrat.setId(id);
+        contrat.setType(TYPES[(int) (id % TYPES.length)]);
+        contrat.setDateEffet(LocalDate.of(2023, 1, 1).plusDays(id % 365));
+        contrat.setDateExpiration(LocalDate.of(2025, 1, 1).plusDays(id % 365));
+        contrat.setMontantCouverture(50_000.0 + id);
+        contrat.setClientId(clientId);
+        List<Sinistre> claims = new ArrayList<>(sinistres);
+        for (int i = 0; i < sinistres; i++) {
+            claims.add(sinistre(id * 1_000 + i, contrat));
+        }
+        contrat.setSinistres(claims);
+        contrat.setNombreSinistres(sinistres);
+        contrat.setTotalReclame(claims.stream().mapToDouble(Sinistre::getMontantRéclamé).sum());
+        contrat.setTotalRembourse(claims.stream().mapToDouble(Sinistre::getMontantRemboursé).sum());
+        return contrat;
+    }
+
+    public static List<Contrat> contrats(int count, int sinistresParContrat) {
+        List<Contrat> contrats = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            contrats.add(contrat(i, i % 100 + 1, sinistresParContrat));
+        }
+        return contrats;
+    }
+
+    public static Sinistre sinistre(long id, Contrat contrat) {
+        Sinistre sinistre = new Sinistre();
+        sinistre.setId(id);
+        sinistre.setDate(LocalDate.of(2024, 1, 1).plusDays(id % 300));
+        sinistre.setDescription("Dégât des eaux dans la cuisine suite à une fuite de canalisation, sinistre n°" + id);
+        sinistre.setMontantRéclamé(1_500.0 + id % 1_000);
+        sinistre.setMontantRemboursé(1_200.0 + id % 800);
+        sinistre.setContrat(contrat);
+        return sinistre;
+    }
+
+    public static Customer customer(Long id) {
+        return new Customer(id, "Dupont" + id, "Marie", "marie.dupont" + id + "@example.com",
+                id + " avenue des Champs-Élysées, 75008 Paris", "+33 6 12 34 56 78");
+    }
+
+    public static CustomerRequestDTO customerRequest(long id) {
+        return new CustomerRequestDTO("Dupont" + id, "Marie", "marie.dupont" + id + "@example.com",
+                id + " avenue des Champs-Élysées, 75008 Paris", "+33 6 12 34 56 78");
+    }
+}
@@ -0,0 +1,64 @@
+package org.assurance.benchmarks.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.assurance.benchmarks.Fixtures;
+import org.assurance.policy_service.dto.ContratResponseDTO;
+import org.assurance.policy_service.mapper.ContratMapper;
+import org.assurance.policy_service.mapper.ContratMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialisation of a client's contract list with nested claims, configured like the
+ * ObjectMapper Spring Boot builds for the services (ISO dates, no timestamps).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContratSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int contrats;
+
+    @Param({"10"})
+    public int sinistresParContrat;
+
+    private ObjectMapper objectMapper;
+    private List<ContratResponseDTO> dtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ContratMapper contratMapper = new ContratMapperImpl();
+        dtos = Fixtures.contrats(contrats, sinistresParContrat).stream()
+                .map(contratMapper::toDTO)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
@@ -0,0 +1,82 @@
+package org.assurance.benchmarks.mapping;
+
+import com.customer.customer_service.dtos.requestDTO.CustomerRequestDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerResponseDTO;
+import com.customer.customer_service.entities.Customer;
+import com.customer.customer_service.mappers.CustomerMapper;
+import com.customer.customer_service.mappers.CustomerMapperImpl;
+import org.assurance.benchmarks.Fixtures;
+import org.assurance.policy_service.dto.ContratResponseDTO;
+import org.assurance.policy_service.dto.SinistreResponseDTO;
+import org.assurance.policy_service.entity.Contrat;
+import org.assurance.policy_service.entity.Sinistre;
+import org.assurance.policy_service.mapper.ContratMapper;
+import org.assurance.policy_service.mapper.ContratMapperImpl;
+import org.assurance.policy_service.mapper.SinistreMapper;
+import org.assurance.policy_service.mapper.SinistreMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ContratMapper contratMapper = new ContratMapperImpl();
+    private final SinistreMapper sinistreMapper = new SinistreMapperImpl();
+    private final CustomerMapper customerMapper = new CustomerMapperImpl();
+
+    private Contrat contrat;
+    private List<Contrat> portefeuille;
+    private Sinistre sinistre;
+    private Customer customer;
+    private CustomerRequestDTO customerRequest;
+
+    @Setup
+    public void setUp() {
+        contrat = Fixtures.contrat(1, 1, 25);
+        portefeuille = Fixtures.contrats(100, 10);
+        sinistre = contrat.getSinistres().get(0);
+        customer = Fixtures.customer(1L);
+        customerRequest = Fixtures.customerRequest(1);
+    }
+
+    @Benchmark
+    public ContratResponseDTO contratToDto() {
+        return contratMapper.toDTO(contrat);
+    }
+
+    @Benchmark
+    public List<ContratResponseDTO> portefeuilleToDto() {
+        return portefeuille.stream().map(contratMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public SinistreResponseDTO sinistreToDto() {
+        return sinistreMapper.toDTO(sinistre);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO customerToDto() {
+        return customerMapper.toDTO(customer);
+    }
+
+    @Benchmark
+    public Customer customerToEntity() {
+        return customerMapper.toEntity(customerRequest);
+    }
+}
@@ -0,0 +1,152 @@
+package org.assurance.benchmarks.service;
+
+import com.customer.customer_service.dtos.responseDTO.CustomerPageResponseDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerResponseDTO;
+import com.customer.customer_service.entities.Customer;
+import com.customer.customer_service.repositories.CustomerRepository;
+import com.customer.customer_service.service.inter.CustomerService;
+import org.assurance.benchmarks.Fixtures;
+import org.assurance.policy_service.dto.ContratResponseDTO;
+import org.assurance.policy_service.dto.ContratTotauxDTO;
+import org.assurance.policy_service.entity.Contrat;
+import org.assurance.policy_service.entity.Sinistre;
+import org.assurance.policy_service.repository.ContratRepository;
+import org.assurance.policy_service.repository.SinistreRepository;
+import org.assurance.policy_service.service.interfaces.ContratService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CustomerServiceImpl and ContratServiceImpl against an embedded H2 database seeded with
+ * 10 000 customers and 1 000 contracts (10 per client, 10 claims each).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int CUSTOMERS = 10_000;
+    private static final int CONTRATS = 1_000;
+    private static final int SINISTRES_PAR_CONTRAT = 10;
+
+    private AnnotationConfigApplicationContext context;
+    private CustomerService customerService;
+    private ContratService contratService;
+
+    private long[] customerIds;
+    private long[] contratIds;
+    private long[] clientIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(ServiceBenchmarkConfig.class);
+        customerService = context.getBean(CustomerService.class);
+        contratService = context.getBean(ContratService.class);
+
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        CustomerRepository customerRepository = context.getBean(CustomerRepository.class);
+        ContratRepository contratRepository = context.getBean(ContratRepository.class);
+        SinistreRepository sinistreRepository = context.getBean(SinistreRepository.class);
+
+        List<Customer> customers = new ArrayList<>(CUSTOMERS);
+        for (int i = 0; i < CUSTOMERS; i++) {
+            Customer customer = Fixtures.customer(null);
+            customer.setEmail("customer" + i + "@example.com");
+            customers.add(customer);
+        }
+        customerIds = transactionTemplate.execute(status -> customerRepository.saveAll(customers)).stream()
+                .mapToLong(Customer::getId)
+                .toArray();
+
+        clientIds = new long[CONTRATS / 10];
+        System.arraycopy(customerIds, 0, clientIds, 0, clientIds.length);
+        contratIds = transactionTemplate.execute(status -> {
+            List<Long> ids = new ArrayList<>(CONTRATS);
+            for (int i = 0; i < CONTRATS; i++) {
+                Contrat contrat = Fixtures.contrat(0, clientIds[i % clientIds.length], SINISTRES_PAR_CONTRAT);
+                List<Sinistre> sinistres = contrat.getSinistres();
+                contrat.setId(null);
+                contrat.setSinistres(null);
+                Contrat saved = contratRepository.save(contrat);
+                sinistres.forEach(sinistre -> {
+                    sinistre.setId(null);
+                    sinistre.setContrat(saved);
+                });
+                sinistreRepository.saveAll(sinistres);
+                ids.add(saved.getId());
+            }
+            return ids;
+        }).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomerResponseDTO customerById() {
+        return customerService.getCustomerById(pick(customerIds));
+    }
+
+    // Encoded JSON from CustomerJsonCache: after warm-up every customer is a hit
+    @Benchmark
+    public byte[] customerJsonById() {
+        return customerService.getCustomerJson(pick(customerIds));
+    }
+
+    @Benchmark
+    public CustomerPageResponseDTO customersPage() {
+        return customerService.getCustomersPage(pick(customerIds), 100);
+    }
+
+    @Benchmark
+    public Set<Long> existingCustomerIds() {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(pick(customerIds) + (i % 10 == 0 ? CUSTOMERS : 0));
+        }
+        return customerService.findExistingCustomerIds(ids);
+    }
+
+    @Benchmark
+    public ContratResponseDTO contratById() {
+        return contratService.getContratById(pick(contratIds));
+    }
+
+    @Benchmark
+    public List<ContratResponseDTO> contratsByClientId() {
+        return contratService.getContratsByClientId(pick(clientIds));
+    }
+
+    @Benchmark
+    public ContratTotauxDTO totauxContrat() {
+        return contratService.getTotauxContrat(pick(contratIds));
+    }
+
+    private static long pick(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,170 @@
+package org.assurance.benchmarks.service;
+
+import com.customer.customer_service.cache.CustomerEmailFilter;
+import com.customer.customer_service.cache.CustomerEmailFilterProperties;
+import com.customer.customer_service.cache.CustomerJsonCache;
+import com.customer.customer_service.cache.CustomerJsonCacheProperties;
+import com.customer.customer_service.clients.PolicyClient;
+import com.customer.customer_service.config.CustomerEventProperties;
+import com.customer.customer_service.mappers.CustomerMapperImpl;
+import com.customer.customer_service.repositories.CustomerRepository;
+import com.customer.customer_service.service.impl.CustomerEventServiceImpl;
+import com.customer.customer_service.service.impl.CustomerServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.assurance.policy_service.cache.CustomerCacheProperties;
+import org.assurance.policy_service.cache.CustomerExistenceCache;
+import org.assurance.policy_service.concurrent.FanOutExecutor;
+import org.assurance.policy_service.concurrent.FanOutProperties;
+import org.assurance.policy_service.feign.CustomerClient;
+import org.assurance.policy_service.feign.CustomerClientProperties;
+import org.assurance.policy_service.feign.CustomerCollapserProperties;
+import org.assurance.policy_service.feign.CustomerExistsCollapser;
+import org.assurance.policy_service.feign.CustomerFallback;
+import org.assurance.policy_service.mapper.ContratMapperImpl;
+import org.assurance.policy_service.mapper.SinistreMapperImpl;
+import org.assurance.policy_service.replica.CustomerReplica;
+import org.assurance.policy_service.repository.ContratRepository;
+import org.assurance.policy_service.service.implementation.ContratServiceImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Minimal Spring context wiring the real service implementations to an embedded H2
+ * database. Remote clients are replaced by in-process stubs that answer immediately,
+ * so the numbers cover JPA, mapping and the services' own logic.
+ */
+@Configuration
+@EnableTransactionManagement
+@EnableJpaRepositories(basePackageClasses = {ContratRepository.class, CustomerRepository.class})
+@Import({
+        ContratMapperImpl.class, SinistreMapperImpl.class, CustomerMapperImpl.class,
+        CustomerExistsCollapser.class, CustomerFallback.class, CustomerReplica.class, CustomerExistenceCache.class,
+        FanOutExecutor.class, ContratServiceImpl.class, CustomerServiceImpl.class, CustomerEventServiceImpl.class,
+        CustomerJsonCache.class, CustomerEmailFilter.class
+})
+public class ServiceBenchmarkConfig {
+
+    @Bean
+    public DataSource dataSource() {
+        return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+    }
+
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("org.assurance.policy_service.entity", "com.customer.customer_service.entities");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true",
+                "jakarta.persistence.validation.mode", "none"));
+        return factory;
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public TaskExecutor applicationTaskExecutor() {
+        return new SimpleAsyncTaskExecutor("benchmark-");
+    }
+
+    @Bean
+    public CustomerCacheProperties customerCacheProperties() {
+        return new CustomerCacheProperties();
+    }
+
+    @Bean
+    public CustomerCollapserProperties customerCollapserProperties() {
+        return new CustomerCollapserProperties();
+    }
+
+    @Bean
+    public CustomerClientProperties customerClientProperties() {
+        return new CustomerClientProperties();
+    }
+
+    @Bean
+    public CustomerEventProperties customerEventProperties() {
+        return new CustomerEventProperties(Duration.ofSeconds(5), Duration.ofDays(7));
+    }
+
+    @Bean
+    public CustomerJsonCacheProperties customerJsonCacheProperties() {
+        return new CustomerJsonCacheProperties(DataSize.ofMegabytes(32), Duration.ofMinutes(10));
+    }
+
+    @Bean
+    public CustomerEmailFilterProperties customerEmailFilterProperties() {
+        return new CustomerEmailFilterProperties(0.01, 100_000);
+    }
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return new ObjectMapper();
+    }
+
+    @Bean
+    public FanOutProperties fanOutProperties() {
+        return new FanOutProperties();
+    }
+
+    @Bean
+    public CustomerClient customerClient() {
+        return new CustomerClient() {
+            @Override
+            public ResponseEntity<Boolean> checkCustomerExists(Long id) {
+                return ResponseEntity.ok(true);
+            }
+
+            @Override
+            public ResponseEntity<Set<Long>> findExistingCustomers(Set<Long> ids) {
+                return ResponseEntity.ok(ids);
+            }
+        };
+    }
+
+    @Bean
+    public PolicyClient policyClient() {
+        return id -> ResponseEntity.noContent().build();
+    }
+}
@@ -1,12 +1,20 @@
 package com.customer.customer_service;
 
+import com.customer.customer_service.cache.CustomerEmailFilterProperties;
+import com.customer.customer_service.cache.CustomerJsonCacheProperties;
+import com.customer.customer_service.config.CustomerEventProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
+@EnableScheduling
+@EnableConfigurationProperties({CustomerEventProperties.class, CustomerJsonCacheProperties.class,
+		CustomerEmailFilterProperties.class})
 public class CustomerServiceApplication {
 
 	public static void main(String[] args) {
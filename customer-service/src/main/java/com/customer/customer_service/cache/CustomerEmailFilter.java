@@ -0,0 +1,122 @@
+package com.customer.customer_service.cache;
+
+import com.customer.customer_service.repositories.CustomerRepository;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter over the emails of all customers, in front of the uniqueness check: an email
+ * the filter has never seen is known to be free without querying the database.
+ * <p>
+ * Writers add the email before their transaction commits, so the filter always covers every
+ * committed email; a rollback only leaves a false positive behind. Deleted and replaced
+ * emails cannot be removed and are shed by the periodic rebuild from a full scan. Emails
+ * added since the previous rebuild are replayed into the new filter, which covers inserts
+ * not yet committed when the scan ran (a transaction would have to stay open for a whole
+ * rebuild interval to be missed). Until the first build completes, every email goes to the
+ * database.
+ * <p>
+ * The filter is per instance: a negative only rules out the emails this instance has written or
+ * scanned. An email taken on another instance since the last rebuild is caught by the unique
+ * index on {@code customer.email}, which the writers report as the same "already exists" error.
+ */
+@Slf4j
+@Component
+public class CustomerEmailFilter {
+
+    private final CustomerRepository customerRepository;
+    private final CustomerEmailFilterProperties properties;
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+
+    // Guards the swap against concurrent additions
+    private final Object lock = new Object();
+    private volatile BloomFilter<String> filter;
+    private Set<String> addedSinceBuild = new HashSet<>();
+
+    public CustomerEmailFilter(CustomerRepository customerRepository,
+                               CustomerEmailFilterProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.customerRepository = customerRepository;
+        this.properties = properties;
+        this.negatives = checks(meterRegistry, "negative");
+        this.positives = checks(meterRegistry, "positive");
+        this.falsePositives = checks(meterRegistry, "false_positive");
+        Gauge.builder("customer.email.filter.expected.fpp", this,
+                        f -> f.filter == null ? Double.NaN : f.filter.expectedFpp())
+                .description("False positive rate expected from the filter's current fill")
+                .register(meterRegistry);
+        Gauge.builder("customer.email.filter.target.fpp", properties, CustomerEmailFilterProperties::falsePositiveRate)
+                .description("Configured false positive rate at full capacity")
+                .register(meterRegistry);
+    }
+
+    // Same answer as existsByEmail, without the query when the filter rules the email out;
+    // a negative may miss another instance's recent insert, left to the unique index
+    public boolean exists(String email) {
+        BloomFilter<String> current = filter;
+        if (current == null) {
+            return customerRepository.existsByEmail(email);
+        }
+        if (!current.mightContain(email)) {
+            negatives.increment();
+            return false;
+        }
+        boolean exists = customerRepository.existsByEmail(email);
+        (exists ? positives : falsePositives).increment();
+        return exists;
+    }
+
+    // False means the email is certainly free; true that the database must be asked
+    public boolean mightExist(String email) {
+        BloomFilter<String> current = filter;
+        return current == null || current.mightContain(email);
+    }
+
+    // To call before the transaction inserting or changing to this email commits
+    public void add(String email) {
+        synchronized (lock) {
+            if (filter != null) {
+                filter.put(email);
+            }
+            addedSinceBuild.add(email);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${customer-email-filter.rebuild-interval:1h}")
+    public void rebuild() {
+        long customers = customerRepository.count();
+        BloomFilter<String> next = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                Math.max(properties.expectedInsertions(), 2 * customers), properties.falsePositiveRate());
+        try (Stream<String> emails = customerRepository.streamAllEmails()) {
+            emails.forEach(next::put);
+        }
+        synchronized (lock) {
+            addedSinceBuild.forEach(next::put);
+            addedSinceBuild = new HashSet<>();
+            filter = next;
+        }
+        log.info("Rebuilt customer email filter from {} customers", customers);
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("customer.email.filter.checks")
+                .description("Email uniqueness checks by filter outcome; false positives still query the database")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
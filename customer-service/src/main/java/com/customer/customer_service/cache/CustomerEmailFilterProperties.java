@@ -0,0 +1,16 @@
+package com.customer.customer_service.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param falsePositiveRate  share of unused emails the filter still reports as possibly taken,
+ *                           each costing the database lookup it is meant to save
+ * @param expectedInsertions lower bound on the filter's capacity; each rebuild sizes it for
+ *                           twice the current number of customers if that is larger
+ */
+@ConfigurationProperties(prefix = "customer-email-filter")
+public record CustomerEmailFilterProperties(
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("100000") long expectedInsertions) {
+}
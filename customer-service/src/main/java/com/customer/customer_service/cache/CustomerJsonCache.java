@@ -0,0 +1,73 @@
+package com.customer.customer_service.cache;
+
+import com.customer.customer_service.entities.Customer;
+import com.customer.customer_service.mappers.CustomerMapper;
+import com.customer.customer_service.repositories.CustomerRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Read-through cache of each customer's response body, already encoded as JSON, so a hit
+ * skips the JPA load, the mapping and Jackson. Bounded by the total size of the documents.
+ * Callers invalidate after their transaction commits: a load still in flight at that point
+ * finishes before the invalidation removes it, so an old version cannot survive the write.
+ */
+@Component
+public class CustomerJsonCache {
+
+    public static final String CACHE_NAME = "customerJson";
+
+    private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, byte[]> cache;
+
+    public CustomerJsonCache(CustomerRepository customerRepository,
+                             CustomerMapper customerMapper,
+                             ObjectMapper objectMapper,
+                             CustomerJsonCacheProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((Long id, byte[] json) -> json.length)
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("customer.json.cache.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Total size of the cached customer documents")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // Unknown ids are not cached and surface as NoSuchElementException, like the service
+    public byte[] get(Long id) {
+        return cache.get(id, this::load);
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    private byte[] load(Long id) {
+        Customer customer = customerRepository.findById(id)
+                .orElseThrow(() -> new NoSuchElementException("Customer with ID " + id + " not found"));
+        try {
+            return objectMapper.writeValueAsBytes(customerMapper.toDTO(customer));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize customer " + id, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.customer.customer_service.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * @param maxSize total size of the cached JSON documents; entries are weighed by their length
+ * @param ttl     safety net for changes made outside this service, which are never invalidated
+ */
+@ConfigurationProperties(prefix = "customer-json-cache")
+public record CustomerJsonCacheProperties(
+        @DefaultValue("32MB") DataSize maxSize,
+        @DefaultValue("10m") Duration ttl) {
+}
@@ -0,0 +1,13 @@
+package com.customer.customer_service.clients;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = "policy-service")
+public interface PolicyClient {
+
+    @DeleteMapping("/internal/customers/{id}/cache")
+    ResponseEntity<Void> invalidateCustomerCache(@PathVariable("id") Long id);
+}
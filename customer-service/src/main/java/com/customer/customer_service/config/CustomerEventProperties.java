@@ -0,0 +1,18 @@
+package com.customer.customer_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param settleWindow upper bound on how long a transaction writing the outbox stays open;
+ *                     ids are allocated at insert, not at commit, so a younger event may still
+ *                     be preceded by an uncommitted one and is not considered read yet
+ * @param retention    how long events are kept; consumers further behind must resync
+ */
+@ConfigurationProperties(prefix = "customer-events")
+public record CustomerEventProperties(
+        @DefaultValue("5s") Duration settleWindow,
+        @DefaultValue("7d") Duration retention) {
+}
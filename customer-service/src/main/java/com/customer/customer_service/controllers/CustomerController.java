@@ -1,16 +1,31 @@
 package com.customer.customer_service.controllers;
 
 import com.customer.customer_service.dtos.requestDTO.CustomerRequestDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerIdPageResponseDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerImportReportDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerPageResponseDTO;
 import com.customer.customer_service.dtos.responseDTO.CustomerResponseDTO;
+import com.customer.customer_service.service.inter.CustomerImportService;
 import com.customer.customer_service.service.inter.CustomerService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 //@RequiredArgsConstructor
@@ -19,8 +34,13 @@ public class CustomerController {
 
 
     private final CustomerService customerService;
-    public CustomerController(CustomerService customerService) {
+    private final CustomerImportService customerImportService;
+    private final ObjectMapper objectMapper;
+    public CustomerController(CustomerService customerService, CustomerImportService customerImportService,
+                              ObjectMapper objectMapper) {
         this.customerService = customerService;
+        this.customerImportService = customerImportService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -29,21 +49,56 @@ public class CustomerController {
         return ResponseEntity.ok(savedCustomer);
     }
 
+    // CSV with a header row (lastName,firstName,email,address,phone), read as it arrives;
+    // answers with the rows that were rejected and why
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<CustomerImportReportDTO> importCustomers(InputStream body) {
+        CustomerImportReportDTO report = customerImportService.importCustomers(
+                new InputStreamReader(body, StandardCharsets.UTF_8));
+        return ResponseEntity.ok(report);
+    }
+
     @GetMapping
     public ResponseEntity<List<CustomerResponseDTO>> getAllCustomers() {
         List<CustomerResponseDTO> customers = customerService.getAllCustomers();
         return ResponseEntity.ok(customers);
     }
+
+    // Keyset pagination: GET /customers?size=100&after=<nextCursor of the previous page>
+    @GetMapping(params = "size")
+    public ResponseEntity<CustomerPageResponseDTO> getCustomersPage(@RequestParam(required = false) Long after,
+                                                                    @RequestParam int size) {
+        return ResponseEntity.ok(customerService.getCustomersPage(after, size));
+    }
+
+    // Ids only, for a full resync of another service's copy: GET /customers/ids?size=10000&after=...
+    @GetMapping("/ids")
+    public ResponseEntity<CustomerIdPageResponseDTO> getCustomerIds(@RequestParam(required = false) Long after,
+                                                                    @RequestParam(defaultValue = "10000") int size) {
+        return ResponseEntity.ok(customerService.getCustomerIds(after, size));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCustomers() {
+        StreamingResponseBody body = outputStream ->
+                customerService.streamAllCustomers(customer -> writeLine(outputStream, customer));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCustomer(@PathVariable Long id) {
         customerService.deleteCustomer(id);
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<CustomerResponseDTO> getCustomerById(@PathVariable Long id) {
-        CustomerResponseDTO customer = customerService.getCustomerById(id);
-        return ResponseEntity.ok(customer);
+    // Cached JSON bytes written as they are: no mapping nor Jackson on a hit
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCustomerById(@PathVariable Long id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(customerService.getCustomerJson(id));
     }
 
     @GetMapping("/{id}/exists")
@@ -51,4 +106,21 @@ public class CustomerController {
         boolean exists = customerService.checkCustomerExists(id);
         return ResponseEntity.ok(exists);
     }
+
+    @PostMapping("/exists")
+    public ResponseEntity<Set<Long>> checkCustomersExist(@RequestBody Set<Long> ids) {
+        Set<Long> existingIds = customerService.findExistingCustomerIds(ids);
+        return ResponseEntity.ok(existingIds);
+    }
+
+    private void writeLine(OutputStream outputStream, CustomerResponseDTO customer) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(customer));
+            outputStream.write('\n');
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize customer " + customer.getId(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package com.customer.customer_service.controllers;
+
+import com.customer.customer_service.dtos.responseDTO.CustomerEventPageResponseDTO;
+import com.customer.customer_service.service.inter.CustomerEventService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/customers/events")
+public class CustomerEventController {
+
+    private final CustomerEventService customerEventService;
+
+    public CustomerEventController(CustomerEventService customerEventService) {
+        this.customerEventService = customerEventService;
+    }
+
+    // Outbox polling: GET /customers/events?after=<nextCursor of the previous poll>&size=500
+    @GetMapping
+    public ResponseEntity<CustomerEventPageResponseDTO> getEvents(@RequestParam(required = false) Long after,
+                                                                  @RequestParam(defaultValue = "500") int size) {
+        return ResponseEntity.ok(customerEventService.getEvents(after, size));
+    }
+
+    // Position to poll from after a full resync taken now
+    @GetMapping("/cursor")
+    public ResponseEntity<Long> getSettledCursor() {
+        return ResponseEntity.ok(customerEventService.getSettledCursor());
+    }
+}
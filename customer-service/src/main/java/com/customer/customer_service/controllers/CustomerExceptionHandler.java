@@ -0,0 +1,25 @@
+package com.customer.customer_service.controllers;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.NoSuchElementException;
+
+// Unknown customers are a 404 and rejected input (oversized batches or pages, taken emails) a 400,
+// not a 500: callers (gateway portfolio, policy-service) tell "no such customer" or "bad request"
+// apart from "customer-service is failing" by the status alone
+@RestControllerAdvice
+public class CustomerExceptionHandler {
+
+    @ExceptionHandler(NoSuchElementException.class)
+    public ProblemDetail notFound(NoSuchElementException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail badRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
@@ -0,0 +1,17 @@
+package com.customer.customer_service.dtos.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerEventPageResponseDTO {
+    private List<CustomerEventResponseDTO> events;
+    // Id to pass as "after" on the next poll. It stops before events that are not settled
+    // yet, so those are sent again: consumers must apply events idempotently.
+    private Long nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.customer.customer_service.dtos.responseDTO;
+
+import com.customer.customer_service.entities.CustomerEventType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerEventResponseDTO {
+    private Long id;
+    private Long customerId;
+    private CustomerEventType type;
+}
@@ -0,0 +1,17 @@
+package com.customer.customer_service.dtos.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerImportErrorDTO {
+    // Position of the row among the data rows of the file (from 1, header excluded)
+    private long row;
+    private String email;
+    private List<String> messages;
+}
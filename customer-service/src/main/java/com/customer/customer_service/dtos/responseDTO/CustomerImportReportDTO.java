@@ -0,0 +1,19 @@
+package com.customer.customer_service.dtos.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerImportReportDTO {
+    // Data rows read, header excluded
+    private long total;
+    private long imported;
+    private long rejected;
+    // One entry per rejected row, in file order
+    private List<CustomerImportErrorDTO> errors;
+}
@@ -0,0 +1,16 @@
+package com.customer.customer_service.dtos.responseDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerPageResponseDTO {
+    private List<CustomerResponseDTO> content;
+    // Id to pass as "after" to fetch the next page, null on the last page
+    private Long nextCursor;
+}
@@ -0,0 +1,43 @@
+package com.customer.customer_service.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Outbox row written in the same transaction as the customer change it describes.
+ * Other services read the table in id order through {@code GET /customers/events}.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// Retention purge deletes by age
+@Table(indexes = @Index(name = "idx_customer_event_created_at", columnList = "created_at"))
+public class CustomerEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CustomerEventType type;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,6 @@
+package com.customer.customer_service.entities;
+
+public enum CustomerEventType {
+    CREATED,
+    DELETED
+}
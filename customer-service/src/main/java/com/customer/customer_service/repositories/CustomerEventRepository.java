@@ -0,0 +1,35 @@
+package com.customer.customer_service.repositories;
+
+import com.customer.customer_service.entities.CustomerEvent;
+import com.customer.customer_service.entities.CustomerEventType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CustomerEventRepository extends JpaRepository<CustomerEvent, Long> {
+    List<CustomerEvent> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("select max(e.id) from CustomerEvent e where e.createdAt <= :settledBefore")
+    Optional<Long> findLastSettledId(@Param("settledBefore") Instant settledBefore);
+
+    // One event per customer in a single statement, for bulk imports
+    @Modifying
+    @Query("insert into CustomerEvent (customerId, type, createdAt)"
+            + " select c.id, :type, :createdAt from Customer c where c.id in :customerIds")
+    int insertForCustomers(@Param("customerIds") Collection<Long> customerIds,
+                           @Param("type") CustomerEventType type,
+                           @Param("createdAt") Instant createdAt);
+
+    @Modifying
+    @Query("delete from CustomerEvent e where e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
@@ -1,10 +1,53 @@
 package com.customer.customer_service.repositories;
 
 import com.customer.customer_service.entities.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     boolean existsByEmail(String email);
+
+    @Query("select c.id from Customer c where c.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Duplicate check of a whole import chunk in one query, served by idx_customer_email
+    @Query("select c.email from Customer c where c.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select c.id from Customer c where c.email in :emails")
+    List<Long> findIdsByEmails(@Param("emails") Collection<String> emails);
+
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Ids only, for consumers keeping their own copy of the customer set
+    @Query("select c.id from Customer c where c.id > :after order by c.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Limit limit);
+
+    // Server-side cursor: must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Customer c order by c.id")
+    Stream<Customer> streamAllByOrderById();
+
+    // Emails alone, to rebuild the email filter
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c.email from Customer c")
+    Stream<String> streamAllEmails();
 }
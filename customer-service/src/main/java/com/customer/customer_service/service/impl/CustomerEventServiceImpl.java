@@ -0,0 +1,82 @@
+package com.customer.customer_service.service.impl;
+
+import com.customer.customer_service.config.CustomerEventProperties;
+import com.customer.customer_service.dtos.responseDTO.CustomerEventPageResponseDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerEventResponseDTO;
+import com.customer.customer_service.entities.CustomerEvent;
+import com.customer.customer_service.entities.CustomerEventType;
+import com.customer.customer_service.repositories.CustomerEventRepository;
+import com.customer.customer_service.service.inter.CustomerEventService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class CustomerEventServiceImpl implements CustomerEventService {
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final CustomerEventRepository customerEventRepository;
+    private final CustomerEventProperties properties;
+
+    @Override
+    // Only meaningful as part of the customer change it describes
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long customerId, CustomerEventType type) {
+        customerEventRepository.save(new CustomerEvent(null, customerId, type, Instant.now()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Collection<Long> customerIds, CustomerEventType type) {
+        if (!customerIds.isEmpty()) {
+            customerEventRepository.insertForCustomers(customerIds, type, Instant.now());
+        }
+    }
+
+    @Override
+    public CustomerEventPageResponseDTO getEvents(Long after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        long cursor = after == null ? 0L : after;
+        List<CustomerEvent> events = customerEventRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(size));
+        Instant settledBefore = Instant.now().minus(properties.settleWindow());
+        for (CustomerEvent event : events) {
+            if (event.getCreatedAt().isAfter(settledBefore)) {
+                break;
+            }
+            cursor = event.getId();
+        }
+        return new CustomerEventPageResponseDTO(
+                events.stream()
+                        .map(event -> new CustomerEventResponseDTO(event.getId(), event.getCustomerId(), event.getType()))
+                        .collect(Collectors.toList()),
+                cursor);
+    }
+
+    @Override
+    public long getSettledCursor() {
+        return customerEventRepository.findLastSettledId(Instant.now().minus(properties.settleWindow())).orElse(0L);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${customer-events.purge-interval:1h}")
+    public void purgeExpiredEvents() {
+        int purged = customerEventRepository.deleteCreatedBefore(Instant.now().minus(properties.retention()));
+        if (purged > 0) {
+            log.info("Purged {} customer events older than {}", purged, properties.retention());
+        }
+    }
+}
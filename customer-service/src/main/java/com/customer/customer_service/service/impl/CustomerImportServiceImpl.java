@@ -0,0 +1,204 @@
+package com.customer.customer_service.service.impl;
+
+import com.customer.customer_service.cache.CustomerEmailFilter;
+import com.customer.customer_service.dtos.requestDTO.CustomerRequestDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerImportErrorDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerImportReportDTO;
+import com.customer.customer_service.entities.CustomerEventType;
+import com.customer.customer_service.repositories.CustomerRepository;
+import com.customer.customer_service.service.inter.CustomerEventService;
+import com.customer.customer_service.service.inter.CustomerImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk creation of customers from a CSV file with a header row naming the
+ * {@link CustomerRequestDTO} fields. The file is read record by record and written in chunks,
+ * each in its own transaction: a failure only rejects the rows of its chunk, and chunks
+ * committed before it stay imported.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class CustomerImportServiceImpl implements CustomerImportService {
+    // Rows per transaction and per duplicate check query
+    private static final int CHUNK_SIZE = 500;
+    private static final int JDBC_BATCH_SIZE = 100;
+    private static final String INSERT_CUSTOMER =
+            "insert into customer (last_name, first_name, email, address, phone) values (?, ?, ?, ?, ?)";
+    private static final List<String> COLUMNS = List.of("lastName", "firstName", "email", "address", "phone");
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setTrim(true)
+            .setIgnoreEmptyLines(true)
+            .build();
+
+    private final CustomerRepository customerRepository;
+    private final CustomerEventService customerEventService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final CustomerEmailFilter customerEmailFilter;
+
+    @Override
+    public CustomerImportReportDTO importCustomers(Reader csv) {
+        List<CustomerImportErrorDTO> errors = new ArrayList<>();
+        // Row on which each email was first seen, for duplicates within the file
+        Map<String, Long> seenEmails = new HashMap<>();
+        List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        long total = 0;
+        long imported = 0;
+        try (CSVParser parser = FORMAT.parse(csv)) {
+            checkColumns(parser.getHeaderNames());
+            for (CSVRecord record : parser) {
+                long row = ++total;
+                CustomerRequestDTO customer = toRequestDTO(record);
+                List<String> violations = validate(customer);
+                if (!violations.isEmpty()) {
+                    errors.add(new CustomerImportErrorDTO(row, customer.getEmail(), violations));
+                    continue;
+                }
+                Long firstRow = seenEmails.putIfAbsent(customer.getEmail(), row);
+                if (firstRow != null) {
+                    errors.add(new CustomerImportErrorDTO(row, customer.getEmail(),
+                            List.of("Email " + customer.getEmail() + " already appears on row " + firstRow)));
+                    continue;
+                }
+                chunk.add(new PendingRow(row, customer));
+                if (chunk.size() == CHUNK_SIZE) {
+                    imported += importChunk(chunk, errors);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += importChunk(chunk, errors);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        errors.sort(Comparator.comparingLong(CustomerImportErrorDTO::getRow));
+        return new CustomerImportReportDTO(total, imported, errors.size(), errors);
+    }
+
+    // Returns the number of customers created
+    private int importChunk(List<PendingRow> chunk, List<CustomerImportErrorDTO> errors) {
+        try {
+            List<PendingRow> taken;
+            try {
+                taken = insertChunk(chunk, true);
+            } catch (DataIntegrityViolationException e) {
+                if (!DuplicateEmails.isDuplicateEmail(e)) {
+                    throw e;
+                }
+                // Another instance took one of the emails unseen by this one's filter: ask the database for all
+                taken = insertChunk(chunk, false);
+            }
+            for (PendingRow pending : taken) {
+                String email = pending.customer().getEmail();
+                errors.add(new CustomerImportErrorDTO(pending.row(), email,
+                        List.of("Customer with email " + email + " already exists")));
+            }
+            return chunk.size() - taken.size();
+        } catch (RuntimeException e) {
+            log.warn("Failed to import a chunk of {} customers", chunk.size(), e);
+            for (PendingRow pending : chunk) {
+                errors.add(new CustomerImportErrorDTO(pending.row(), pending.customer().getEmail(),
+                        List.of("Import failed: " + e.getMessage())));
+            }
+            return 0;
+        }
+    }
+
+    // One transaction: at most one query for the emails already taken, the inserts in JDBC batches,
+    // then the outbox events. Returns the rows whose email was taken
+    private List<PendingRow> insertChunk(List<PendingRow> chunk, boolean useFilter) {
+        return transactionTemplate.execute(status -> {
+            // Only emails the filter cannot rule out go to the database
+            List<String> candidates = chunk.stream()
+                    .map(pending -> pending.customer().getEmail())
+                    .filter(email -> !useFilter || customerEmailFilter.mightExist(email))
+                    .toList();
+            Set<String> existingEmails = candidates.isEmpty()
+                    ? Set.of()
+                    : customerRepository.findExistingEmails(candidates);
+            List<PendingRow> duplicates = new ArrayList<>();
+            List<CustomerRequestDTO> customers = new ArrayList<>(chunk.size());
+            for (PendingRow pending : chunk) {
+                if (existingEmails.contains(pending.customer().getEmail())) {
+                    duplicates.add(pending);
+                } else {
+                    customers.add(pending.customer());
+                }
+            }
+            insertAll(customers);
+            customers.forEach(customer -> customerEmailFilter.add(customer.getEmail()));
+            List<Long> ids = customerRepository.findIdsByEmails(
+                    customers.stream().map(CustomerRequestDTO::getEmail).toList());
+            customerEventService.recordAll(ids, CustomerEventType.CREATED);
+            return duplicates;
+        });
+    }
+
+    // Plain JDBC: ids come from the identity column, which keeps Hibernate from batching inserts.
+    // New rows are not in the entity cache, so bypassing Hibernate leaves nothing stale
+    private void insertAll(List<CustomerRequestDTO> customers) {
+        jdbcTemplate.batchUpdate(INSERT_CUSTOMER, customers, JDBC_BATCH_SIZE, (statement, customer) -> {
+            statement.setString(1, customer.getLastName());
+            statement.setString(2, customer.getFirstName());
+            statement.setString(3, customer.getEmail());
+            statement.setString(4, customer.getAddress());
+            statement.setString(5, customer.getPhone());
+        });
+    }
+
+    private static void checkColumns(List<String> headerNames) {
+        List<String> missing = COLUMNS.stream().filter(column -> !headerNames.contains(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns " + missing);
+        }
+    }
+
+    private static CustomerRequestDTO toRequestDTO(CSVRecord record) {
+        return new CustomerRequestDTO(
+                value(record, "lastName"),
+                value(record, "firstName"),
+                value(record, "email"),
+                value(record, "address"),
+                value(record, "phone"));
+    }
+
+    // Null when a short row stops before the column
+    private static String value(CSVRecord record, String column) {
+        return record.isSet(column) ? record.get(column) : null;
+    }
+
+    private List<String> validate(CustomerRequestDTO customer) {
+        return validator.validate(customer).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+    }
+
+    private record PendingRow(long row, CustomerRequestDTO customer) {
+    }
+}
@@ -1,34 +1,73 @@
 package com.customer.customer_service.service.impl;
 
 
+import com.customer.customer_service.cache.CustomerEmailFilter;
+import com.customer.customer_service.cache.CustomerJsonCache;
+import com.customer.customer_service.clients.PolicyClient;
 import com.customer.customer_service.dtos.requestDTO.CustomerRequestDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerIdPageResponseDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerPageResponseDTO;
 import com.customer.customer_service.dtos.responseDTO.CustomerResponseDTO;
 import com.customer.customer_service.entities.Customer;
+import com.customer.customer_service.entities.CustomerEventType;
 import com.customer.customer_service.mappers.CustomerMapper;
 import com.customer.customer_service.repositories.CustomerRepository;
+import com.customer.customer_service.service.inter.CustomerEventService;
 import com.customer.customer_service.service.inter.CustomerService;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
+    private static final int MAX_EXISTS_BATCH_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_ID_PAGE_SIZE = 10_000;
+
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final PolicyClient policyClient;
+    private final EntityManager entityManager;
+    private final CustomerEventService customerEventService;
+    private final CustomerJsonCache customerJsonCache;
+    private final CustomerEmailFilter customerEmailFilter;
 
     @Override
+    @Transactional
     public CustomerResponseDTO addCustomer(CustomerRequestDTO customerRequestDTO) {
-        if (customerRepository.existsByEmail(customerRequestDTO.getEmail())) {
+        if (customerEmailFilter.exists(customerRequestDTO.getEmail())) {
             throw new IllegalArgumentException("Customer with email " + customerRequestDTO.getEmail() + " already exists");
         }
 
         Customer customer = customerMapper.toEntity(customerRequestDTO);
 
-        Customer savedCustomer = customerRepository.save(customer);
+        Customer savedCustomer;
+        try {
+            savedCustomer = customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException e) {
+            // Taken on another instance, whose insert this instance's filter has not seen
+            if (!DuplicateEmails.isDuplicateEmail(e)) {
+                throw e;
+            }
+            throw new IllegalArgumentException("Customer with email " + customerRequestDTO.getEmail() + " already exists");
+        }
+        customerEmailFilter.add(savedCustomer.getEmail());
+        customerEventService.record(savedCustomer.getId(), CustomerEventType.CREATED);
 
         return customerMapper.toDTO(savedCustomer);
     }
@@ -41,6 +80,41 @@ public class CustomerServiceImpl implements CustomerService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CustomerPageResponseDTO getCustomersPage(Long after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<Customer> customers = customerRepository.findByIdGreaterThanOrderByIdAsc(
+                after == null ? 0L : after, Limit.of(size));
+        Long nextCursor = customers.size() < size ? null : customers.get(customers.size() - 1).getId();
+        return new CustomerPageResponseDTO(
+                customers.stream().map(customerMapper::toDTO).collect(Collectors.toList()),
+                nextCursor);
+    }
+
+    @Override
+    public CustomerIdPageResponseDTO getCustomerIds(Long after, int size) {
+        if (size < 1 || size > MAX_ID_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_ID_PAGE_SIZE);
+        }
+        List<Long> ids = customerRepository.findIdsAfter(after == null ? 0L : after, Limit.of(size));
+        Long nextCursor = ids.size() < size ? null : ids.get(ids.size() - 1);
+        return new CustomerIdPageResponseDTO(ids, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllCustomers(Consumer<CustomerResponseDTO> consumer) {
+        try (Stream<Customer> customers = customerRepository.streamAllByOrderById()) {
+            customers.forEach(customer -> {
+                consumer.accept(customerMapper.toDTO(customer));
+                // Keep the persistence context empty so memory stays flat
+                entityManager.detach(customer);
+            });
+        }
+    }
+
     @Override
     public CustomerResponseDTO getCustomerById(Long id) {
         Customer customer = customerRepository.findById(id)
@@ -48,31 +122,86 @@ public class CustomerServiceImpl implements CustomerService {
         return customerMapper.toDTO(customer);
     }
 
+    // Encoded JSON, served from the cache once loaded
     @Override
+    public byte[] getCustomerJson(Long id) {
+        return customerJsonCache.get(id);
+    }
+
+    @Override
+    @Transactional
     public CustomerResponseDTO updateCustomer(Long id, CustomerRequestDTO customerRequestDTO) {
         Customer existingCustomer = customerRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Customer with ID " + id + " not found"));
 
         if (!existingCustomer.getEmail().equals(customerRequestDTO.getEmail()) &&
-                customerRepository.existsByEmail(customerRequestDTO.getEmail())) {
+                customerEmailFilter.exists(customerRequestDTO.getEmail())) {
             throw new IllegalArgumentException("Email " + customerRequestDTO.getEmail() + " is already in use");        }
 
         customerMapper.updateEntityFromDTO(customerRequestDTO, existingCustomer);
 
-        Customer updatedCustomer = customerRepository.save(existingCustomer);
+        Customer updatedCustomer;
+        try {
+            // Flushed here so a taken email surfaces as such rather than at commit
+            updatedCustomer = customerRepository.saveAndFlush(existingCustomer);
+        } catch (DataIntegrityViolationException e) {
+            if (!DuplicateEmails.isDuplicateEmail(e)) {
+                throw e;
+            }
+            throw new IllegalArgumentException("Email " + customerRequestDTO.getEmail() + " is already in use");
+        }
+        customerEmailFilter.add(updatedCustomer.getEmail());
+        afterCommit(() -> customerJsonCache.invalidate(id));
         return customerMapper.toDTO(updatedCustomer);
     }
 
     @Override
+    @Transactional
     public void deleteCustomer(Long id) {
         Customer customer = customerRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException("Customer with ID " + id + " not found"));
 
         customerRepository.delete(customer);
+        customerEventService.record(id, CustomerEventType.DELETED);
+        // After commit, so neither cache can reload the customer before the delete is visible
+        afterCommit(() -> {
+            customerJsonCache.invalidate(id);
+            invalidatePolicyCache(id);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void invalidatePolicyCache(Long id) {
+        // Best effort: policy-service expires the entry on its own after its TTL
+        try {
+            policyClient.invalidateCustomerCache(id);
+        } catch (Exception e) {
+            log.warn("Could not invalidate customer {} in policy-service cache: {}", id, e.getMessage());
+        }
     }
 
     @Override
     public boolean checkCustomerExists(Long id) {
-        return customerRepository.existsById(id);
+        // Goes through the entity cache, unlike existsById which always runs a count query
+        return customerRepository.findById(id).isPresent();
+    }
+
+    @Override
+    public Set<Long> findExistingCustomerIds(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        if (ids.size() > MAX_EXISTS_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_EXISTS_BATCH_SIZE + " ids can be checked at once");
+        }
+        return customerRepository.findExistingIds(ids);
     }
 }
@@ -0,0 +1,19 @@
+package com.customer.customer_service.service.impl;
+
+import com.customer.customer_service.entities.Customer;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+// Tells a write rejected by the unique email index, the only uniqueness check that holds across
+// instances, from other integrity failures. Both PostgreSQL and H2 name the index in the message
+final class DuplicateEmails {
+
+    private DuplicateEmails() {
+    }
+
+    static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(Customer.EMAIL_UNIQUE_INDEX);
+    }
+}
@@ -0,0 +1,14 @@
+package com.customer.customer_service.service.inter;
+
+import com.customer.customer_service.dtos.responseDTO.CustomerEventPageResponseDTO;
+import com.customer.customer_service.entities.CustomerEventType;
+
+import java.util.Collection;
+
+public interface CustomerEventService {
+    void record(Long customerId, CustomerEventType type);
+    void recordAll(Collection<Long> customerIds, CustomerEventType type);
+    CustomerEventPageResponseDTO getEvents(Long after, int size);
+    long getSettledCursor();
+    void purgeExpiredEvents();
+}
@@ -0,0 +1,9 @@
+package com.customer.customer_service.service.inter;
+
+import com.customer.customer_service.dtos.responseDTO.CustomerImportReportDTO;
+
+import java.io.Reader;
+
+public interface CustomerImportService {
+    CustomerImportReportDTO importCustomers(Reader csv);
+}
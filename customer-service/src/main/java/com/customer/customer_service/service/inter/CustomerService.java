@@ -1,16 +1,25 @@
 package com.customer.customer_service.service.inter;
 
 import com.customer.customer_service.dtos.requestDTO.CustomerRequestDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerIdPageResponseDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerPageResponseDTO;
 import com.customer.customer_service.dtos.responseDTO.CustomerResponseDTO;
 import com.customer.customer_service.entities.Customer;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface CustomerService {
     CustomerResponseDTO addCustomer(CustomerRequestDTO customerRequestDTO);
     List<CustomerResponseDTO> getAllCustomers();
+    CustomerPageResponseDTO getCustomersPage(Long after, int size);
+    CustomerIdPageResponseDTO getCustomerIds(Long after, int size);
+    void streamAllCustomers(Consumer<CustomerResponseDTO> consumer);
     CustomerResponseDTO getCustomerById(Long id);
+    byte[] getCustomerJson(Long id);
     CustomerResponseDTO updateCustomer(Long id, CustomerRequestDTO customerRequestDTO);
     boolean checkCustomerExists(Long id);
+    Set<Long> findExistingCustomerIds(Set<Long> ids);
     void deleteCustomer(Long id);
 }
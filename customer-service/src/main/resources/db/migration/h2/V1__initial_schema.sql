@@ -0,0 +1,12 @@
+-- Same script as db/migration/postgresql, for the embedded H2 database (development, tests)
+-- Schema previously created by ddl-auto. Conditional so that an existing database
+-- (baseline-on-migrate) only gets what it is missing.
+CREATE TABLE IF NOT EXISTS customer (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    last_name  VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    address    VARCHAR(255) NOT NULL,
+    phone      VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,2 @@
+-- existsByEmail runs on every customer creation
+CREATE INDEX IF NOT EXISTS idx_customer_email ON customer (email);
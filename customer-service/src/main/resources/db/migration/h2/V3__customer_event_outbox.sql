@@ -0,0 +1,10 @@
+-- Transactional outbox of customer creations and deletions, read in id order by policy-service
+CREATE TABLE IF NOT EXISTS customer_event (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    customer_id BIGINT                      NOT NULL,
+    type        VARCHAR(16)                 NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_customer_event_created_at ON customer_event (created_at);
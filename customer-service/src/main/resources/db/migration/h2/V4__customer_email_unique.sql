@@ -0,0 +1,5 @@
+-- Email uniqueness enforced by the database: the email filter in front of existsByEmail is
+-- per instance and cannot see the inserts of the others. Replaces the plain lookup index;
+-- duplicates already in the table have to be merged before this runs.
+DROP INDEX IF EXISTS idx_customer_email;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_customer_email ON customer (email);
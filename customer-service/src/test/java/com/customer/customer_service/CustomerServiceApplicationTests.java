@@ -3,7 +3,8 @@ package com.customer.customer_service;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// Schema created by the Flyway scripts (db/migration/h2), checked against the entities
+@SpringBootTest(properties = {"spring.jpa.hibernate.ddl-auto=validate", "tracing.collector-token=test-token"})
 class CustomerServiceApplicationTests {
 
 	@Test
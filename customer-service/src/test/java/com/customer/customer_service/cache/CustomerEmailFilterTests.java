@@ -0,0 +1,103 @@
+package com.customer.customer_service.cache;
+
+import com.customer.customer_service.repositories.CustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerEmailFilterTests {
+
+	private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private CustomerEmailFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		filter = new CustomerEmailFilter(customerRepository, new CustomerEmailFilterProperties(0.01, 1000), meterRegistry);
+	}
+
+	@Test
+	void asksTheDatabaseUntilBuilt() {
+		when(customerRepository.existsByEmail("marie@example.com")).thenReturn(true);
+
+		assertThat(filter.exists("marie@example.com")).isTrue();
+		assertThat(filter.mightExist("jean@example.com")).isTrue();
+	}
+
+	@Test
+	void unknownEmailSkipsTheDatabase() {
+		build("marie@example.com");
+
+		assertThat(filter.exists("jean@example.com")).isFalse();
+
+		verify(customerRepository, never()).existsByEmail("jean@example.com");
+		assertThat(checks("negative")).isEqualTo(1);
+	}
+
+	@Test
+	void knownEmailIsConfirmedByTheDatabase() {
+		build("marie@example.com");
+		when(customerRepository.existsByEmail("marie@example.com")).thenReturn(true);
+
+		assertThat(filter.exists("marie@example.com")).isTrue();
+		assertThat(checks("positive")).isEqualTo(1);
+	}
+
+	@Test
+	void rebuildShedsDeletedEmails() {
+		build("marie@example.com");
+		build();
+
+		assertThat(filter.mightExist("marie@example.com")).isFalse();
+	}
+
+	@Test
+	void emailsAddedDuringRebuildAreKept() {
+		when(customerRepository.streamAllEmails()).thenAnswer(invocation -> {
+			// Inserted while the scan runs, too late for it to see
+			filter.add("jean@example.com");
+			return Stream.of("marie@example.com");
+		});
+
+		filter.rebuild();
+
+		assertThat(filter.mightExist("marie@example.com")).isTrue();
+		assertThat(filter.mightExist("jean@example.com")).isTrue();
+	}
+
+	@Test
+	void addedEmailIsSeenImmediately() {
+		build();
+
+		filter.add("jean@example.com");
+
+		assertThat(filter.mightExist("jean@example.com")).isTrue();
+	}
+
+	@Test
+	void reportsFalsePositiveRates() {
+		build("marie@example.com");
+
+		assertThat(meterRegistry.get("customer.email.filter.target.fpp").gauge().value()).isEqualTo(0.01);
+		assertThat(meterRegistry.get("customer.email.filter.expected.fpp").gauge().value()).isBetween(0.0, 0.01);
+	}
+
+	private void build(String... emails) {
+		when(customerRepository.count()).thenReturn((long) emails.length);
+		when(customerRepository.streamAllEmails()).thenReturn(Stream.of(emails));
+		filter.rebuild();
+	}
+
+	private double checks(String result) {
+		return meterRegistry.get("customer.email.filter.checks").tag("result", result).counter().count();
+	}
+}
@@ -0,0 +1,91 @@
+package com.customer.customer_service.cache;
+
+import com.customer.customer_service.entities.Customer;
+import com.customer.customer_service.mappers.CustomerMapper;
+import com.customer.customer_service.mappers.CustomerMapperImpl;
+import com.customer.customer_service.repositories.CustomerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerJsonCacheTests {
+
+	private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+	private final CustomerMapper customerMapper = new CustomerMapperImpl();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private CustomerJsonCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new CustomerJsonCache(customerRepository, customerMapper, objectMapper,
+				new CustomerJsonCacheProperties(DataSize.ofMegabytes(1), Duration.ofMinutes(10)), meterRegistry);
+	}
+
+	@Test
+	void servesTheSameJsonAsJacksonAndLoadsOnce() throws Exception {
+		Customer customer = customer(1L, "Dupont");
+		when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+
+		byte[] first = cache.get(1L);
+		byte[] second = cache.get(1L);
+
+		assertThat(first).isEqualTo(objectMapper.writeValueAsBytes(customerMapper.toDTO(customer)));
+		assertThat(second).isSameAs(first);
+		verify(customerRepository, times(1)).findById(1L);
+	}
+
+	@Test
+	void invalidateReloadsTheCurrentVersion() throws Exception {
+		when(customerRepository.findById(1L)).thenReturn(Optional.of(customer(1L, "Dupont")));
+		cache.get(1L);
+
+		when(customerRepository.findById(1L)).thenReturn(Optional.of(customer(1L, "Martin")));
+		cache.invalidate(1L);
+
+		assertThat(objectMapper.readTree(cache.get(1L)).get("lastName").asText()).isEqualTo("Martin");
+	}
+
+	@Test
+	void unknownCustomerIsNotCached() {
+		when(customerRepository.findById(2L)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> cache.get(2L)).isInstanceOf(NoSuchElementException.class);
+		assertThatThrownBy(() -> cache.get(2L)).isInstanceOf(NoSuchElementException.class);
+		verify(customerRepository, times(2)).findById(2L);
+	}
+
+	@Test
+	void sizeIsBoundedByBytes() {
+		when(customerRepository.findById(any()))
+				.thenAnswer(invocation -> Optional.of(customer(invocation.getArgument(0), "Dupont")));
+		for (long id = 1; id <= 20_000; id++) {
+			cache.get(id);
+		}
+
+		// Eviction runs in Caffeine's maintenance task, possibly just after the last write
+		await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+				assertThat(meterRegistry.get("customer.json.cache.bytes").gauge().value())
+						.isLessThanOrEqualTo(DataSize.ofMegabytes(1).toBytes()));
+	}
+
+	private static Customer customer(Long id, String lastName) {
+		return new Customer(id, lastName, "Marie", "marie" + id + "@example.com", "1 rue de la Paix", "0600000000");
+	}
+}
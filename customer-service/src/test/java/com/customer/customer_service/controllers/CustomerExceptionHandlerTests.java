@@ -0,0 +1,70 @@
+package com.customer.customer_service.controllers;
+
+import com.customer.customer_service.service.inter.CustomerImportService;
+import com.customer.customer_service.service.inter.CustomerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CustomerExceptionHandlerTests {
+
+	private final CustomerService customerService = mock(CustomerService.class);
+
+	private final MockMvc mockMvc = MockMvcBuilders
+			.standaloneSetup(new CustomerController(customerService, mock(CustomerImportService.class), new ObjectMapper()))
+			.setControllerAdvice(new CustomerExceptionHandler())
+			.build();
+
+	@Test
+	void unknownCustomerIsNotFound() throws Exception {
+		when(customerService.getCustomerJson(42L)).thenThrow(new NoSuchElementException("Customer with ID 42 not found"));
+
+		mockMvc.perform(get("/customers/42"))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.detail").value("Customer with ID 42 not found"));
+	}
+
+	@Test
+	void deletingAnUnknownCustomerIsNotFound() throws Exception {
+		doThrow(new NoSuchElementException("Customer with ID 42 not found")).when(customerService).deleteCustomer(42L);
+
+		mockMvc.perform(delete("/customers/42"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void oversizedExistsBatchIsABadRequest() throws Exception {
+		when(customerService.findExistingCustomerIds(anySet()))
+				.thenThrow(new IllegalArgumentException("At most 1000 ids can be checked at once"));
+		String ids = LongStream.rangeClosed(1, 1001).mapToObj(Long::toString).collect(Collectors.joining(",", "[", "]"));
+
+		mockMvc.perform(post("/customers/exists").contentType(MediaType.APPLICATION_JSON).content(ids))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.detail").value("At most 1000 ids can be checked at once"));
+	}
+
+	@Test
+	void knownCustomerIsOk() throws Exception {
+		when(customerService.getCustomerJson(1L)).thenReturn("{\"id\":1}".getBytes());
+
+		mockMvc.perform(get("/customers/1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(1));
+	}
+}
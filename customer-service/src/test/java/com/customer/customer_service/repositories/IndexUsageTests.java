@@ -0,0 +1,63 @@
+package com.customer.customer_service.repositories;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway scripts on H2 in PostgreSQL mode, validates the entity against them and
+ * checks that the email uniqueness lookup is served by its index.
+ */
+@DataJpaTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:plans;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+		"spring.flyway.locations=classpath:db/migration/postgresql",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "com.customer.customer_service.repositories.IndexUsageTests$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IndexUsageTests {
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		SqlCapture.STATEMENTS.clear();
+	}
+
+	@Test
+	void existsByEmailUsesEmailUniqueIndex() {
+		customerRepository.existsByEmail("jane@example.com");
+
+		assertThat(SqlCapture.STATEMENTS).hasSize(1);
+		String plan = jdbcTemplate.queryForObject("explain " + SqlCapture.STATEMENTS.get(0), String.class,
+				"jane@example.com");
+		assertThat(plan).doesNotContainIgnoringCase("tableScan");
+		assertThat(plan).containsIgnoringCase("uk_customer_email");
+	}
+
+	public static class SqlCapture implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.customer.customer_service.service.impl;
+
+import com.customer.customer_service.cache.CustomerEmailFilter;
+import com.customer.customer_service.dtos.responseDTO.CustomerImportErrorDTO;
+import com.customer.customer_service.dtos.responseDTO.CustomerImportReportDTO;
+import com.customer.customer_service.entities.Customer;
+import com.customer.customer_service.entities.CustomerEvent;
+import com.customer.customer_service.entities.CustomerEventType;
+import com.customer.customer_service.repositories.CustomerEventRepository;
+import com.customer.customer_service.repositories.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Imports against the Flyway schema on H2 in PostgreSQL mode. Each chunk commits on its own,
+ * hence no test transaction and an explicit cleanup.
+ */
+@DataJpaTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:import;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+		"spring.flyway.locations=classpath:db/migration/postgresql",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CustomerImportServiceImpl.class, CustomerEventServiceImpl.class, CustomerEmailFilter.class})
+@ImportAutoConfiguration({ValidationAutoConfiguration.class, MetricsAutoConfiguration.class,
+		SimpleMetricsExportAutoConfiguration.class})
+class CustomerImportServiceImplTests {
+
+	private static final String HEADER = "lastName,firstName,email,address,phone\n";
+
+	@Autowired
+	private CustomerImportServiceImpl customerImportService;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private CustomerEventRepository customerEventRepository;
+
+	@Autowired
+	private CustomerEmailFilter customerEmailFilter;
+
+	@AfterEach
+	void tearDown() {
+		customerEventRepository.deleteAll();
+		customerRepository.deleteAll();
+	}
+
+	@Test
+	void importsValidRowsAndReportsEveryRejectedOne() {
+		customerRepository.save(new Customer(null, "Martin", "Paul", "taken@example.com", "2 rue Haute", "0611111111"));
+		// Saved behind the filter's back
+		customerEmailFilter.rebuild();
+
+		CustomerImportReportDTO report = customerImportService.importCustomers(new StringReader(HEADER
+				+ "Dupont,Marie,marie@example.com,1 rue de la Paix,0600000000\n"
+				+ "Durand,Luc,not-an-email,3 rue Basse,0622222222\n"
+				+ "Dupont,Anne,marie@example.com,1 rue de la Paix,0633333333\n"
+				+ "Martin,Paula,taken@example.com,2 rue Haute,0644444444\n"
+				+ "Petit,Jean,jean@example.com,4 rue Neuve\n"));
+
+		assertThat(report.getTotal()).isEqualTo(5);
+		assertThat(report.getImported()).isEqualTo(1);
+		assertThat(report.getRejected()).isEqualTo(4);
+		assertThat(report.getErrors()).extracting(CustomerImportErrorDTO::getRow).containsExactly(2L, 3L, 4L, 5L);
+		assertThat(report.getErrors()).extracting(CustomerImportErrorDTO::getMessages).containsExactly(
+				List.of("Email should be valid"),
+				List.of("Email marie@example.com already appears on row 1"),
+				List.of("Customer with email taken@example.com already exists"),
+				List.of("Phone number is required"));
+
+		Customer imported = customerRepository.findAll().stream()
+				.filter(customer -> customer.getEmail().equals("marie@example.com"))
+				.findFirst().orElseThrow();
+		assertThat(customerEventRepository.findAll()).singleElement().satisfies(event -> {
+			assertThat(event.getCustomerId()).isEqualTo(imported.getId());
+			assertThat(event.getType()).isEqualTo(CustomerEventType.CREATED);
+		});
+	}
+
+	@Test
+	void emailTakenOnAnotherInstanceIsReportedAsExisting() {
+		customerEmailFilter.rebuild();
+		// Inserted by another instance: this one's filter rules the email out
+		customerRepository.save(new Customer(null, "Martin", "Paul", "taken@example.com", "2 rue Haute", "0611111111"));
+
+		CustomerImportReportDTO report = customerImportService.importCustomers(new StringReader(HEADER
+				+ "Dupont,Marie,marie@example.com,1 rue de la Paix,0600000000\n"
+				+ "Martin,Paula,taken@example.com,2 rue Haute,0644444444\n"));
+
+		assertThat(report.getImported()).isEqualTo(1);
+		assertThat(report.getErrors()).singleElement().satisfies(error -> {
+			assertThat(error.getRow()).isEqualTo(2L);
+			assertThat(error.getMessages()).containsExactly("Customer with email taken@example.com already exists");
+		});
+		assertThat(customerRepository.count()).isEqualTo(2);
+		assertThat(customerEventRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	void importsAcrossSeveralChunksWithOneEventPerCustomer() {
+		StringBuilder csv = new StringBuilder(HEADER);
+		for (int i = 1; i <= 1200; i++) {
+			csv.append("Nom").append(i).append(",Prenom,client").append(i).append("@example.com,1 rue de la Paix,0600000000\n");
+		}
+
+		CustomerImportReportDTO report = customerImportService.importCustomers(new StringReader(csv.toString()));
+
+		assertThat(report.getImported()).isEqualTo(1200);
+		assertThat(report.getErrors()).isEmpty();
+		assertThat(customerRepository.count()).isEqualTo(1200);
+		List<Long> ids = customerRepository.findAll().stream().map(Customer::getId).toList();
+		assertThat(customerEventRepository.findAll()).extracting(CustomerEvent::getCustomerId)
+				.containsExactlyInAnyOrderElementsOf(ids);
+	}
+
+	@Test
+	void missingColumnRejectsTheWholeFile() {
+		assertThatThrownBy(() -> customerImportService.importCustomers(
+				new StringReader("lastName,firstName,email\nDupont,Marie,marie@example.com\n")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("address");
+		assertThat(customerRepository.count()).isZero();
+	}
+}
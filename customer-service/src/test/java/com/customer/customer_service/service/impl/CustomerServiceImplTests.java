@@ -0,0 +1,97 @@
+package com.customer.customer_service.service.impl;
+
+import com.customer.customer_service.cache.CustomerEmailFilter;
+import com.customer.customer_service.cache.CustomerJsonCache;
+import com.customer.customer_service.clients.PolicyClient;
+import com.customer.customer_service.dtos.requestDTO.CustomerRequestDTO;
+import com.customer.customer_service.entities.Customer;
+import com.customer.customer_service.mappers.CustomerMapperImpl;
+import com.customer.customer_service.repositories.CustomerEventRepository;
+import com.customer.customer_service.repositories.CustomerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Emails taken on another instance: this instance's filter rules them out, the unique index on
+ * customer.email does not. Writes commit on their own, hence no test transaction.
+ */
+@DataJpaTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:customers;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+		"spring.flyway.locations=classpath:db/migration/postgresql",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CustomerServiceImpl.class, CustomerEventServiceImpl.class, CustomerEmailFilter.class, CustomerMapperImpl.class})
+@ImportAutoConfiguration({MetricsAutoConfiguration.class, SimpleMetricsExportAutoConfiguration.class})
+class CustomerServiceImplTests {
+
+	@Autowired
+	private CustomerServiceImpl customerService;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private CustomerEventRepository customerEventRepository;
+
+	@Autowired
+	private CustomerEmailFilter customerEmailFilter;
+
+	@MockitoBean
+	private PolicyClient policyClient;
+
+	@MockitoBean
+	private CustomerJsonCache customerJsonCache;
+
+	@BeforeEach
+	void setUp() {
+		customerEmailFilter.rebuild();
+		customerRepository.save(new Customer(null, "Martin", "Paul", "taken@example.com", "2 rue Haute", "0611111111"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		customerEventRepository.deleteAll();
+		customerRepository.deleteAll();
+	}
+
+	@Test
+	void addingAnEmailTakenOnAnotherInstanceIsRejected() {
+		assertThatThrownBy(() -> customerService.addCustomer(request("taken@example.com")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Customer with email taken@example.com already exists");
+		assertThat(customerRepository.count()).isEqualTo(1);
+		assertThat(customerEventRepository.count()).isZero();
+	}
+
+	@Test
+	void changingToAnEmailTakenOnAnotherInstanceIsRejected() {
+		Long id = customerService.addCustomer(request("marie@example.com")).getId();
+
+		assertThatThrownBy(() -> customerService.updateCustomer(id, request("taken@example.com")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Email taken@example.com is already in use");
+		assertThat(customerRepository.findById(id)).get().extracting(Customer::getEmail).isEqualTo("marie@example.com");
+	}
+
+	private static CustomerRequestDTO request(String email) {
+		return new CustomerRequestDTO("Dupont", "Marie", email, "1 rue de la Paix", "0600000000");
+	}
+}
@@ -0,0 +1,75 @@
+package org.assurance.gateway_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-memory store of GET responses, weighed by body size and expired after a fixed TTL.
+ * Entries are kept per caller: a response built for one subject is never served to another.
+ * Each resource carries a generation bumped on every write, so a GET that was already in flight
+ * when the write happened cannot put its stale answer back after the purge.
+ */
+@Component
+public class ResponseCache {
+
+    private final Cache<Key, CachedResponse> cache;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> dependents;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((Key key, CachedResponse response) ->
+                        key.subject().length() + key.uri().length() + response.body().length)
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        this.dependents = properties.dependents() != null ? properties.dependents() : Map.of();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponses");
+    }
+
+    public Optional<CachedResponse> get(String resource, String subject, String uri) {
+        return Optional.ofNullable(cache.getIfPresent(new Key(resource, subject, uri)));
+    }
+
+    public long generation(String resource) {
+        return generationOf(resource).get();
+    }
+
+    public void put(String resource, String subject, String uri, long generation, CachedResponse response) {
+        Key key = new Key(resource, subject, uri);
+        cache.put(key, response);
+        // A write slipped in while the response was on its way: drop what was just stored
+        if (generation(resource) != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void purge(String resource) {
+        Set<String> affected = new HashSet<>(dependents.getOrDefault(resource, Set.of()));
+        affected.add(resource);
+        affected.forEach(name -> generationOf(name).incrementAndGet());
+        cache.asMap().keySet().removeIf(key -> affected.contains(key.resource()));
+    }
+
+    private AtomicLong generationOf(String resource) {
+        return generations.computeIfAbsent(resource, name -> new AtomicLong());
+    }
+
+    public record CachedResponse(byte[] body, MediaType contentType, String etag) {
+    }
+
+    private record Key(String resource, String subject, String uri) {
+    }
+}
@@ -0,0 +1,176 @@
+package org.assurance.gateway_service.cache;
+
+import org.assurance.gateway_service.security.JwtProperties;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Serves repeated GETs of cacheable resources from {@link ResponseCache}, tags them with an ETag
+ * and answers a matching {@code If-None-Match} with 304. Any other method on a resource purges it,
+ * along with its configured dependents, once the service has answered.
+ * Runs after {@code JwtAuthenticationWebFilter}, so only authenticated requests reach the cache,
+ * and the verified subject it forwards is part of the cache key: services may answer differently
+ * per caller, and one user's response must not be replayed to another.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final Set<HttpMethod> SAFE_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private final ResponseCache responseCache;
+    private final Set<String> resources;
+    private final long maxEntrySize;
+    private final String subjectHeader;
+
+    public ResponseCacheFilter(ResponseCache responseCache, ResponseCacheProperties properties,
+                               JwtProperties jwtProperties) {
+        this.responseCache = responseCache;
+        this.resources = Set.copyOf(properties.resources());
+        this.maxEntrySize = properties.maxEntrySize().toBytes();
+        this.subjectHeader = jwtProperties.subjectHeader();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Optional<String> resource = resourceOf(request);
+        if (resource.isEmpty()) {
+            return chain.filter(exchange);
+        }
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            return chain.filter(exchange).doFinally(signal -> responseCache.purge(resource.get()));
+        }
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String uri = request.getURI().getRawPath()
+                + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : "");
+        // Set by the JWT filter, which drops any client-supplied value; empty on public paths
+        String subject = Optional.ofNullable(request.getHeaders().getFirst(subjectHeader)).orElse("");
+        Optional<ResponseCache.CachedResponse> cached = responseCache.get(resource.get(), subject, uri);
+        if (cached.isPresent()) {
+            return writeCached(exchange, cached.get());
+        }
+
+        long generation = responseCache.generation(resource.get());
+        CachingResponse response = new CachingResponse(exchange, resource.get(), subject, uri, generation);
+        return chain.filter(exchange.mutate().response(response).build());
+    }
+
+    // The first path segment naming a cacheable resource, so routes prefixed by a service id match too
+    private Optional<String> resourceOf(ServerHttpRequest request) {
+        for (String segment : request.getPath().pathWithinApplication().value().split("/")) {
+            if (resources.contains(segment)) {
+                return Optional.of(segment);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, ResponseCache.CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.etag());
+        if (matches(exchange.getRequest(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(cached.contentType());
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean matches(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("*");
+    }
+
+    private static String etag(byte[] body) {
+        return "\"0" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    @Override
+    public int getOrder() {
+        // Before the filter that writes the proxied response, so the decorator sees the body
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String resource;
+        private final String subject;
+        private final String uri;
+        private final long generation;
+
+        CachingResponse(ServerWebExchange exchange, String resource, String subject, String uri, long generation) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.resource = resource;
+            this.subject = subject;
+            this.uri = uri;
+            this.generation = generation;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+            // The declared length was checked, the limit still bounds a body longer than announced
+            return DataBufferUtils.join(body, (int) maxEntrySize).flatMap(buffer -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                DataBufferUtils.release(buffer);
+
+                String etag = etag(bytes);
+                HttpHeaders headers = getHeaders();
+                headers.setETag(etag);
+                responseCache.put(resource, subject, uri, generation,
+                        new ResponseCache.CachedResponse(bytes, headers.getContentType(), etag));
+                if (matches(exchange.getRequest(), etag)) {
+                    setStatusCode(HttpStatus.NOT_MODIFIED);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                    headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                    return getDelegate().setComplete();
+                }
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+        // Plain JSON 200s of a known, small enough length only: NDJSON streams, chunked bodies
+        // (Content-Length -1) and oversized ones are passed through untouched, never buffered
+        private boolean isCacheable() {
+            HttpHeaders headers = getHeaders();
+            MediaType contentType = headers.getContentType();
+            String cacheControl = headers.getCacheControl();
+            long contentLength = headers.getContentLength();
+            return HttpStatus.OK.equals(getStatusCode())
+                    && contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(contentType)
+                    && contentLength >= 0 && contentLength <= maxEntrySize
+                    && (cacheControl == null || !cacheControl.contains(CacheControl.noStore().getHeaderValue()));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.assurance.gateway_service.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Which resources the gateway caches GET responses for, and which cached resources a write
+ * to another one makes stale (a new claim changes the contract that embeds it, for example).
+ */
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public record ResponseCacheProperties(
+        Duration ttl,
+        DataSize maxSize,
+        DataSize maxEntrySize,
+        List<String> resources,
+        Map<String, Set<String>> dependents) {
+}
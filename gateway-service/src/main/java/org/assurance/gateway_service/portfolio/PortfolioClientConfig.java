@@ -0,0 +1,18 @@
+package org.assurance.gateway_service.portfolio;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class PortfolioClientConfig {
+
+    // Observed so both legs carry the trace context and show up as client spans
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(ObservationRegistry observationRegistry) {
+        return WebClient.builder().observationRegistry(observationRegistry);
+    }
+}
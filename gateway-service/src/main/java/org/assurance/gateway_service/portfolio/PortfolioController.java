@@ -0,0 +1,51 @@
+package org.assurance.gateway_service.portfolio;
+
+import org.assurance.gateway_service.security.JwtProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+public class PortfolioController {
+
+    static final String DEGRADED_HEADER = "X-Portfolio-Degraded";
+
+    private final PortfolioService portfolioService;
+    private final String subjectHeader;
+
+    public PortfolioController(PortfolioService portfolioService, JwtProperties jwtProperties) {
+        this.portfolioService = portfolioService;
+        this.subjectHeader = jwtProperties.subjectHeader();
+    }
+
+    // A degraded 200 names the missing legs in a header, so callers need not read the body to notice
+    @GetMapping("/portfolio/{clientId}")
+    public Mono<ResponseEntity<PortfolioResponse>> getPortfolio(@PathVariable Long clientId, ServerHttpRequest request) {
+        return portfolioService.getPortfolio(clientId, forwardedHeaders(request))
+                .map(portfolio -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.status(portfolio.status());
+                    if (!portfolio.isComplete()) {
+                        response.header(DEGRADED_HEADER, String.join(",", portfolio.errors().keySet()));
+                    }
+                    return response.body(portfolio);
+                });
+    }
+
+    private HttpHeaders forwardedHeaders(ServerHttpRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        copy(request.getHeaders(), headers, HttpHeaders.AUTHORIZATION);
+        copy(request.getHeaders(), headers, subjectHeader);
+        return headers;
+    }
+
+    private static void copy(HttpHeaders from, HttpHeaders to, String name) {
+        String value = from.getFirst(name);
+        if (value != null) {
+            to.set(name, value);
+        }
+    }
+}
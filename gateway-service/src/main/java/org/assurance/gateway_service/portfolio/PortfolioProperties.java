@@ -0,0 +1,17 @@
+package org.assurance.gateway_service.portfolio;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Downstream locations and per-leg time budgets of the portfolio aggregation.
+ * Service ids are resolved through Eureka by the load-balanced WebClient.
+ */
+@ConfigurationProperties(prefix = "gateway.portfolio")
+public record PortfolioProperties(
+        String customerService,
+        String policyService,
+        Duration customerTimeout,
+        Duration contratsTimeout) {
+}
@@ -0,0 +1,24 @@
+package org.assurance.gateway_service.portfolio;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+/**
+ * Client portfolio merged from customer-service and policy-service. A leg that failed or timed out
+ * is left null and its reason is reported in {@code errors}, so callers still get the other half.
+ * {@code status} is the HTTP status to answer with and is not part of the body.
+ */
+public record PortfolioResponse(
+        Long clientId,
+        JsonNode customer,
+        JsonNode contrats,
+        Map<String, String> errors,
+        @JsonIgnore HttpStatus status) {
+
+    public boolean isComplete() {
+        return errors.isEmpty();
+    }
+}
@@ -0,0 +1,98 @@
+package org.assurance.gateway_service.portfolio;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Replaces the front end's customer → contracts → claims-per-contract waterfall with one
+ * concurrent fan-out. Contracts already embed their claims, so two legs cover the whole portfolio.
+ * An unknown customer is a 404 and two failed legs a 502; with one failed leg the portfolio is
+ * still a 200, degraded, with the failure listed in {@code errors}.
+ */
+@Service
+public class PortfolioService {
+
+    static final String CUSTOMER_LEG = "customer";
+    static final String CONTRATS_LEG = "contrats";
+
+    private final WebClient webClient;
+    private final PortfolioProperties properties;
+
+    public PortfolioService(WebClient.Builder loadBalancedWebClientBuilder, PortfolioProperties properties) {
+        this.webClient = loadBalancedWebClientBuilder.build();
+        this.properties = properties;
+    }
+
+    public Mono<PortfolioResponse> getPortfolio(Long clientId, HttpHeaders forwardedHeaders) {
+        Mono<Leg> customer = fetch(CUSTOMER_LEG,
+                "http://" + properties.customerService() + "/customers/{id}", clientId,
+                forwardedHeaders, properties.customerTimeout());
+        Mono<Leg> contrats = fetch(CONTRATS_LEG,
+                "http://" + properties.policyService() + "/contrats/client/{id}", clientId,
+                forwardedHeaders, properties.contratsTimeout());
+
+        return Mono.zip(customer, contrats, (customerLeg, contratsLeg) -> {
+            Map<String, String> errors = new LinkedHashMap<>();
+            customerLeg.error().ifPresent(error -> errors.put(CUSTOMER_LEG, error));
+            contratsLeg.error().ifPresent(error -> errors.put(CONTRATS_LEG, error));
+            return new PortfolioResponse(clientId, customerLeg.body(), contratsLeg.body(), errors,
+                    status(customerLeg, contratsLeg));
+        });
+    }
+
+    private static HttpStatus status(Leg customer, Leg contrats) {
+        if (customer.upstreamStatus() == HttpStatus.NOT_FOUND.value()) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (customer.error().isPresent() && contrats.error().isPresent()) {
+            return HttpStatus.BAD_GATEWAY;
+        }
+        return HttpStatus.OK;
+    }
+
+    // Each leg always completes: failures become an error entry instead of failing the whole zip
+    private Mono<Leg> fetch(String name, String uri, Long clientId, HttpHeaders forwardedHeaders, Duration timeout) {
+        return webClient.get()
+                .uri(uri, clientId)
+                .headers(headers -> headers.addAll(forwardedHeaders))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(timeout)
+                .map(Leg::success)
+                .onErrorResume(error -> Mono.just(Leg.failure(describe(name, error, timeout),
+                        error instanceof WebClientResponseException response ? response.getStatusCode().value() : 0)));
+    }
+
+    private static String describe(String name, Throwable error, Duration timeout) {
+        if (error instanceof TimeoutException) {
+            return name + " did not answer within " + timeout.toMillis() + " ms";
+        }
+        if (error instanceof WebClientResponseException response) {
+            return name + " answered " + response.getStatusCode().value();
+        }
+        return name + " unavailable: " + error.getMessage();
+    }
+
+    // upstreamStatus is the status of an error response, 0 when the leg got none
+    private record Leg(JsonNode body, Optional<String> error, int upstreamStatus) {
+
+        static Leg success(JsonNode body) {
+            return new Leg(body, Optional.empty(), 0);
+        }
+
+        static Leg failure(String error, int upstreamStatus) {
+            return new Leg(null, Optional.of(error), upstreamStatus);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.assurance.gateway_service.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the requests a route may have in flight towards its service and answers 503 straight away
+ * beyond that, instead of letting them queue in the service until they time out.
+ * Runs after {@code ResponseCacheFilter}, so cache hits never count against the limit.
+ */
+@Component
+public class LoadSheddingFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER + 1;
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public LoadSheddingFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = route.getId();
+        AtomicInteger counter = inFlight.computeIfAbsent(routeId, this::registerGauge);
+        if (counter.incrementAndGet() > properties.limitsFor(routeId).maxInFlight()) {
+            counter.decrementAndGet();
+            meterRegistry.counter("gateway.requests.rejected", "route", routeId, "reason", "shed").increment();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return response.setComplete();
+        }
+        return chain.filter(exchange).doFinally(signal -> counter.decrementAndGet());
+    }
+
+    private AtomicInteger registerGauge(String routeId) {
+        AtomicInteger counter = new AtomicInteger();
+        Gauge.builder("gateway.requests.in_flight", counter, AtomicInteger::get)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return counter;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
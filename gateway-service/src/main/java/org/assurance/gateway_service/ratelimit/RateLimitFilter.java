@@ -0,0 +1,90 @@
+package org.assurance.gateway_service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.assurance.gateway_service.security.JwtProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-caller token bucket on every route, without the Redis store the built-in
+ * {@code RequestRateLimiter} requires. Callers are identified by the subject verified by
+ * {@code JwtAuthenticationWebFilter}, or by their address for public routes. Idle buckets are evicted.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = -20;
+
+    private final RateLimitProperties properties;
+    private final String subjectHeader;
+    private final Cache<String, TokenBucket> buckets;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitProperties properties, JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.subjectHeader = jwtProperties.subjectHeader();
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxKeys())
+                .expireAfterAccess(properties.idleExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rateLimitBuckets");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = route.getId();
+        TokenBucket bucket = buckets.get(routeId + '|' + callerOf(exchange.getRequest()), key -> {
+            RateLimitProperties.Limits limits = properties.limitsFor(routeId);
+            return new TokenBucket(limits.burstCapacity(), limits.replenishRate());
+        });
+
+        long waitNanos = bucket.tryConsume();
+        if (waitNanos == 0) {
+            return chain.filter(exchange);
+        }
+
+        meterRegistry.counter("gateway.requests.rejected", "route", routeId, "reason", "rate_limited").increment();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1))));
+        return response.setComplete();
+    }
+
+    private String callerOf(ServerHttpRequest request) {
+        String subject = request.getHeaders().getFirst(subjectHeader);
+        if (subject != null) {
+            return "user:" + subject;
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        return "ip:" + (remoteAddress != null ? remoteAddress.getAddress().getHostAddress() : "unknown");
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
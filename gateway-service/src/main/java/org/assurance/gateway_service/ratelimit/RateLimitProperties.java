@@ -0,0 +1,37 @@
+package org.assurance.gateway_service.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * In-process rate limiting and load shedding settings. {@code defaults} applies to every route;
+ * entries of {@code routes}, keyed by route id, override any of its values.
+ */
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public record RateLimitProperties(
+        Limits defaults,
+        Map<String, Limits> routes,
+        int maxKeys,
+        Duration idleExpiry) {
+
+    public Limits limitsFor(String routeId) {
+        Limits override = routes != null ? routes.get(routeId) : null;
+        if (override == null) {
+            return defaults;
+        }
+        return new Limits(
+                override.replenishRate() != null ? override.replenishRate() : defaults.replenishRate(),
+                override.burstCapacity() != null ? override.burstCapacity() : defaults.burstCapacity(),
+                override.maxInFlight() != null ? override.maxInFlight() : defaults.maxInFlight());
+    }
+
+    /**
+     * @param replenishRate tokens added per second to each caller's bucket
+     * @param burstCapacity bucket size, i.e. how many requests a caller may send at once
+     * @param maxInFlight   concurrent upstream requests allowed on the route before shedding
+     */
+    public record Limits(Integer replenishRate, Integer burstCapacity, Integer maxInFlight) {
+    }
+}
@@ -0,0 +1,53 @@
+package org.assurance.gateway_service.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket refilled lazily from the elapsed time on each attempt. The state is an immutable
+ * snapshot swapped with compare-and-set, so concurrent callers never block each other.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoTime;
+    private final AtomicReference<State> state;
+
+    TokenBucket(int capacity, int tokensPerSecond) {
+        this(capacity, tokensPerSecond, System::nanoTime);
+    }
+
+    // Clock injectable so refills can be tested without waiting
+    TokenBucket(int capacity, int tokensPerSecond, LongSupplier nanoTime) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / NANOS_PER_SECOND;
+        this.nanoTime = nanoTime;
+        this.state = new AtomicReference<>(new State(capacity, nanoTime.getAsLong()));
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return 0 when the token was granted, otherwise the nanoseconds until one becomes available
+     */
+    long tryConsume() {
+        while (true) {
+            State current = state.get();
+            long now = nanoTime.getAsLong();
+            double tokens = Math.min(capacity, current.tokens() + (now - current.refilledAt()) * tokensPerNano);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
@@ -0,0 +1,86 @@
+package org.assurance.gateway_service.security;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Verifies the bearer token once at the edge and forwards the subject to the services in
+ * a trusted header. Any incoming value of that header is dropped so clients cannot spoof it.
+ */
+@Component
+public class JwtAuthenticationWebFilter implements WebFilter, Ordered {
+
+    public static final int ORDER = -100;
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final String subjectHeader;
+    private final List<PathPattern> publicPaths;
+    private final List<PathPattern> internalPaths;
+
+    public JwtAuthenticationWebFilter(VerifiedTokenCache verifiedTokenCache, JwtProperties properties) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.subjectHeader = properties.subjectHeader();
+        this.publicPaths = parse(properties.publicPaths());
+        this.internalPaths = parse(properties.internalPaths());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        // Internal paths check their own credential in the handler
+        if (matches(publicPaths, request) || matches(internalPaths, request)) {
+            return chain.filter(exchange.mutate()
+                    .request(builder -> builder.headers(headers -> headers.remove(subjectHeader)))
+                    .build());
+        }
+
+        Optional<VerifiedTokenCache.VerifiedToken> verified = bearerToken(request)
+                .flatMap(verifiedTokenCache::verify);
+        if (verified.isEmpty()) {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
+
+        String subject = verified.get().subject();
+        return chain.filter(exchange.mutate()
+                .request(builder -> builder.headers(headers -> headers.set(subjectHeader, subject)))
+                .build());
+    }
+
+    private static List<PathPattern> parse(List<String> patterns) {
+        return patterns == null ? List.of() : patterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    private static boolean matches(List<PathPattern> patterns, ServerHttpRequest request) {
+        return patterns.stream().anyMatch(pattern -> pattern.matches(request.getPath().pathWithinApplication()));
+    }
+
+    private static Optional<String> bearerToken(ServerHttpRequest request) {
+        String header = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
+        return Optional.of(header.substring(BEARER_PREFIX.length()));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
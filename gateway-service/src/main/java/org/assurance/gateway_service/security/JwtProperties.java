@@ -0,0 +1,32 @@
+package org.assurance.gateway_service.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Edge JWT verification settings. The secret has no default: startup fails when it is not set.
+ *
+ * @param secret         HS256 secret, must match the one used by auth-service to sign tokens
+ * @param subjectHeader  header carrying the verified subject to the downstream services
+ * @param cacheSize      maximum number of verified tokens kept until they expire
+ * @param publicPaths    path patterns forwarded without a token
+ * @param internalPaths  path patterns called by the services themselves, which authenticate
+ *                       with their own credential instead of a user token
+ */
+@ConfigurationProperties(prefix = "gateway.jwt")
+public record JwtProperties(
+        String secret,
+        String subjectHeader,
+        long cacheSize,
+        List<String> publicPaths,
+        List<String> internalPaths) {
+
+    public JwtProperties {
+        // Binding leaves an unresolved ${...} as is, so it is checked here
+        if (!StringUtils.hasText(secret) || secret.startsWith("${")) {
+            throw new IllegalArgumentException("gateway.jwt.secret must be set, e.g. through JWT_SECRET");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.assurance.gateway_service.tracing;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * A span in Zipkin v2 JSON, as reported by the services. Timestamps and durations are in
+ * microseconds.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record Span(
+        String traceId,
+        String id,
+        String parentId,
+        String name,
+        String kind,
+        Long timestamp,
+        Long duration,
+        Endpoint localEndpoint,
+        Endpoint remoteEndpoint,
+        Map<String, String> tags) {
+
+    public String serviceName() {
+        return localEndpoint == null || localEndpoint.serviceName() == null ? "unknown" : localEndpoint.serviceName();
+    }
+
+    public long start() {
+        return timestamp == null ? 0 : timestamp;
+    }
+
+    public long end() {
+        return start() + (duration == null ? 0 : duration);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Endpoint(String serviceName, String ipv4, Integer port) {
+    }
+}
@@ -0,0 +1,55 @@
+package org.assurance.gateway_service.tracing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Recent spans grouped by trace, bounded by total span count and evicted a while after the
+ * last span of a trace arrived. Meant for latency investigations, not long-term storage.
+ */
+@Component
+public class SpanStore {
+
+    private final Cache<String, List<Span>> traces;
+
+    public SpanStore(TracingProperties properties, MeterRegistry meterRegistry) {
+        this.traces = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSpans())
+                .<String, List<Span>>weigher((traceId, spans) -> spans.size())
+                .expireAfterWrite(properties.retention())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, traces, "traceStore");
+    }
+
+    public void add(Collection<Span> spans) {
+        Map<String, List<Span>> byTrace = spans.stream()
+                .filter(span -> span.traceId() != null && span.id() != null)
+                .collect(Collectors.groupingBy(Span::traceId));
+        // Copy on write so readers never see a list being appended to
+        byTrace.forEach((traceId, received) -> traces.asMap().compute(traceId, (id, stored) -> {
+            List<Span> merged = new ArrayList<>(stored == null ? List.of() : stored);
+            merged.addAll(received);
+            return Collections.unmodifiableList(merged);
+        }));
+    }
+
+    public List<Span> get(String traceId) {
+        List<Span> spans = traces.getIfPresent(traceId);
+        return spans == null ? List.of() : spans;
+    }
+
+    public Collection<List<Span>> all() {
+        return traces.asMap().values();
+    }
+}
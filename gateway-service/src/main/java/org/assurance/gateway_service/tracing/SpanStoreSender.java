@@ -0,0 +1,49 @@
+package org.assurance.gateway_service.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import zipkin2.reporter.BytesMessageSender;
+import zipkin2.reporter.Encoding;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reporter transport for the gateway's own spans: the batches Boot's Zipkin reporter builds are
+ * added to the {@link SpanStore} in process instead of being posted back to this gateway's
+ * collector. Replaces the HTTP sender, so the gateway needs no collector endpoint nor token.
+ * Spans arrive JSON v2 encoded, the reporter's default encoding.
+ */
+@Component
+public class SpanStoreSender extends BytesMessageSender.Base {
+
+    private final SpanStore spanStore;
+    private final ObjectMapper objectMapper;
+    private final int messageMaxBytes;
+
+    public SpanStoreSender(SpanStore spanStore, ObjectMapper objectMapper, TracingProperties properties) {
+        super(Encoding.JSON);
+        this.spanStore = spanStore;
+        this.objectMapper = objectMapper;
+        this.messageMaxBytes = Math.toIntExact(properties.maxBatchSize().toBytes());
+    }
+
+    @Override
+    public int messageMaxBytes() {
+        return messageMaxBytes;
+    }
+
+    @Override
+    public void send(List<byte[]> encodedSpans) throws IOException {
+        List<Span> spans = new ArrayList<>(encodedSpans.size());
+        for (byte[] encodedSpan : encodedSpans) {
+            spans.add(objectMapper.readValue(encodedSpan, Span.class));
+        }
+        spanStore.add(spans);
+    }
+
+    @Override
+    public void close() {
+    }
+}
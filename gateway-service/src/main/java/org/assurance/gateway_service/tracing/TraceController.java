@@ -0,0 +1,106 @@
+package org.assurance.gateway_service.tracing;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Zipkin-compatible span collector for the services, plus a small query API to find slow
+ * traces and see which service the time went to. The collector only accepts batches carrying
+ * the shared collector token, and stops inflating a batch once it passes the size limit.
+ */
+@RestController
+public class TraceController {
+
+    public static final String COLLECTOR_TOKEN_HEADER = "X-Collector-Token";
+
+    private static final TypeReference<List<Span>> SPANS = new TypeReference<>() {
+    };
+
+    private final SpanStore spanStore;
+    private final ObjectMapper objectMapper;
+    private final byte[] collectorToken;
+    private final int maxBatchBytes;
+
+    public TraceController(SpanStore spanStore, ObjectMapper objectMapper, TracingProperties properties) {
+        this.spanStore = spanStore;
+        this.objectMapper = objectMapper;
+        this.collectorToken = properties.collectorToken().getBytes(StandardCharsets.UTF_8);
+        this.maxBatchBytes = Math.toIntExact(properties.maxBatchSize().toBytes());
+    }
+
+    // Reporters gzip larger batches, so the body is read raw and inflated here
+    @PostMapping("/api/v2/spans")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void collect(@RequestBody byte[] body,
+                        @RequestHeader(name = HttpHeaders.CONTENT_ENCODING, required = false) String encoding,
+                        @RequestHeader(name = COLLECTOR_TOKEN_HEADER, required = false) String token) {
+        if (token == null || !MessageDigest.isEqual(collectorToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing or invalid collector token");
+        }
+        try {
+            spanStore.add(objectMapper.readValue(inflate(body, encoding), SPANS));
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed span batch", e);
+        }
+    }
+
+    // Reads one byte past the limit to tell a batch of exactly the limit from a larger one
+    private byte[] inflate(byte[] body, String encoding) throws IOException {
+        if (!"gzip".equalsIgnoreCase(encoding)) {
+            return body;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            byte[] inflated = in.readNBytes(maxBatchBytes + 1);
+            if (inflated.length > maxBatchBytes) {
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                        "Span batch larger than " + maxBatchBytes + " bytes once inflated");
+            }
+            return inflated;
+        }
+    }
+
+    // Most recent traces first, optionally only those slower than minDuration
+    @GetMapping("/traces")
+    public List<TraceView.Summary> recent(@RequestParam(required = false) Duration minDuration,
+                                          @RequestParam(defaultValue = "20") int limit) {
+        long minMicros = minDuration == null ? 0 : minDuration.toNanos() / 1000;
+        return spanStore.all().stream()
+                .filter(spans -> !spans.isEmpty())
+                .map(spans -> TraceView.summarize(spans.get(0).traceId(), spans))
+                .filter(summary -> summary.durationMicros() >= minMicros)
+                .sorted(Comparator.comparing(TraceView.Summary::startedAt).reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    @GetMapping("/traces/{traceId}")
+    public ResponseEntity<TraceView> trace(@PathVariable String traceId) {
+        List<Span> spans = spanStore.get(traceId);
+        if (spans.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(TraceView.of(traceId, spans));
+    }
+}
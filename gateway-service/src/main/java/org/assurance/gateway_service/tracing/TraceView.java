@@ -0,0 +1,64 @@
+package org.assurance.gateway_service.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trace with the time spent in each service. Self time is a span's duration minus that of
+ * its direct children, so a service waiting on a downstream call is not charged for it.
+ */
+public record TraceView(
+        String traceId,
+        String root,
+        Instant startedAt,
+        long durationMicros,
+        Map<String, ServiceTime> services,
+        List<Span> spans) {
+
+    public record ServiceTime(int spans, long totalMicros, long selfMicros) {
+    }
+
+    public record Summary(String traceId, String root, Instant startedAt, long durationMicros, int spans) {
+    }
+
+    public static TraceView of(String traceId, List<Span> spans) {
+        List<Span> sorted = spans.stream().sorted(Comparator.comparingLong(Span::start)).toList();
+
+        Map<String, Long> childTime = new HashMap<>();
+        for (Span span : sorted) {
+            if (span.parentId() != null && span.duration() != null) {
+                childTime.merge(span.parentId(), span.duration(), Long::sum);
+            }
+        }
+
+        Map<String, ServiceTime> services = new TreeMap<>();
+        for (Span span : sorted) {
+            long duration = span.duration() == null ? 0 : span.duration();
+            long self = Math.max(0, duration - childTime.getOrDefault(span.id(), 0L));
+            services.merge(span.serviceName(), new ServiceTime(1, duration, self),
+                    (a, b) -> new ServiceTime(a.spans() + b.spans(), a.totalMicros() + b.totalMicros(),
+                            a.selfMicros() + b.selfMicros()));
+        }
+
+        Summary summary = summarize(traceId, sorted);
+        return new TraceView(traceId, summary.root(), summary.startedAt(), summary.durationMicros(),
+                services, new ArrayList<>(sorted));
+    }
+
+    public static Summary summarize(String traceId, List<Span> spans) {
+        long start = spans.stream().mapToLong(Span::start).min().orElse(0);
+        long end = spans.stream().mapToLong(Span::end).max().orElse(start);
+        // The root is the span without a parent; until it arrives, the earliest one stands in
+        Span root = spans.stream()
+                .filter(span -> span.parentId() == null)
+                .findFirst()
+                .orElseGet(() -> spans.stream().min(Comparator.comparingLong(Span::start)).orElse(null));
+        String rootName = root == null ? null : root.serviceName() + " " + root.name();
+        return new Summary(traceId, rootName, Instant.EPOCH.plusNanos(start * 1000), end - start, spans.size());
+    }
+}
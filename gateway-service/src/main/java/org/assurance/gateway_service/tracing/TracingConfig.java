@@ -0,0 +1,22 @@
+package org.assurance.gateway_service.tracing;
+
+import io.micrometer.observation.ObservationPredicate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+
+@Configuration
+public class TracingConfig {
+
+    // Reporting spans must not produce spans of its own, and probes and scrapes are not traced
+    @Bean
+    public ObservationPredicate ignoreCollectorAndActuatorRequests() {
+        return (name, context) -> {
+            if (context instanceof ServerRequestObservationContext request) {
+                String path = request.getCarrier().getPath().pathWithinApplication().value();
+                return !path.startsWith("/api/v2/spans") && !path.startsWith("/actuator");
+            }
+            return true;
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package org.assurance.gateway_service.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the in-memory span store and access to the collector. The collector token has no
+ * default: startup fails when it is not set.
+ *
+ * @param maxSpans        total number of spans kept across all traces
+ * @param retention       how long a trace is kept after its last span arrived
+ * @param collectorToken  shared secret the services send in the collector token header
+ * @param maxBatchSize    largest span batch accepted once inflated
+ */
+@ConfigurationProperties(prefix = "gateway.tracing")
+public record TracingProperties(
+        long maxSpans,
+        Duration retention,
+        String collectorToken,
+        DataSize maxBatchSize) {
+
+    public TracingProperties {
+        // Binding leaves an unresolved ${...} as is, so it is checked here
+        if (!StringUtils.hasText(collectorToken) || collectorToken.startsWith("${")) {
+            throw new IllegalArgumentException(
+                    "gateway.tracing.collector-token must be set, e.g. through TRACING_COLLECTOR_TOKEN");
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package org.assurance.gateway_service;
 
+import org.assurance.gateway_service.tracing.SpanStoreSender;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import zipkin2.reporter.BytesMessageSender;
 
-@SpringBootTest
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"gateway.tracing.collector-token=test-token",
+		"gateway.jwt.secret=test-secret-of-at-least-256-bits-for-hs256"})
 class GatewayServiceApplicationTests {
 
+	@Autowired
+	private BytesMessageSender spanSender;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void ownSpansAreReportedInProcess() {
+		assertThat(spanSender).isInstanceOf(SpanStoreSender.class);
+	}
+
 }
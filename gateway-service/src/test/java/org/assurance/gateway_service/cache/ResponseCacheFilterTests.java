@@ -0,0 +1,88 @@
+package org.assurance.gateway_service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assurance.gateway_service.security.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTests {
+
+	private static final String SUBJECT_HEADER = "X-Authenticated-User";
+
+	private static final ResponseCacheProperties PROPERTIES = new ResponseCacheProperties(Duration.ofMinutes(1),
+			DataSize.ofMegabytes(1), DataSize.ofBytes(16), List.of("customers"), Map.of());
+
+	private final ResponseCache cache = new ResponseCache(PROPERTIES, new SimpleMeterRegistry());
+	private final ResponseCacheFilter filter = new ResponseCacheFilter(cache, PROPERTIES,
+			new JwtProperties("secret", SUBJECT_HEADER, 10, List.of(), List.of()));
+
+	@Test
+	void smallResponseOfKnownLengthIsCached() {
+		MockServerWebExchange exchange = get();
+
+		filter.filter(exchange, answer(8L, "{\"id\":1}")).block();
+
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("{\"id\":1}");
+		assertThat(exchange.getResponse().getHeaders().getETag()).isNotNull();
+		assertThat(cache.get("customers", "alice", "/customers/1")).isPresent();
+	}
+
+	@Test
+	void chunkedResponseIsPassedThroughWithoutBuffering() {
+		MockServerWebExchange exchange = get();
+
+		filter.filter(exchange, answer(null, "{\"id\":", "1}")).block();
+
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("{\"id\":1}");
+		assertThat(exchange.getResponse().getHeaders().getETag()).isNull();
+		assertThat(cache.get("customers", "alice", "/customers/1")).isEmpty();
+	}
+
+	@Test
+	void responseLargerThanAnEntryIsPassedThrough() {
+		MockServerWebExchange exchange = get();
+		String body = "{\"name\":\"" + "x".repeat(32) + "\"}";
+
+		filter.filter(exchange, answer((long) body.length(), body)).block();
+
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(body);
+		assertThat(cache.get("customers", "alice", "/customers/1")).isEmpty();
+	}
+
+	private static MockServerWebExchange get() {
+		return MockServerWebExchange.from(MockServerHttpRequest.get("/customers/1").header(SUBJECT_HEADER, "alice"));
+	}
+
+	// Stands for the proxied service: a JSON 200, with a Content-Length unless contentLength is null
+	private static GatewayFilterChain answer(Long contentLength, String... chunks) {
+		return exchange -> {
+			ServerHttpResponse response = exchange.getResponse();
+			response.setStatusCode(HttpStatus.OK);
+			response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+			if (contentLength != null) {
+				response.getHeaders().setContentLength(contentLength);
+			}
+			return response.writeWith(Flux.fromArray(chunks).map(ResponseCacheFilterTests::buffer));
+		};
+	}
+
+	private static DataBuffer buffer(String chunk) {
+		return DefaultDataBufferFactory.sharedInstance.wrap(chunk.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,55 @@
+package org.assurance.gateway_service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTests {
+
+	private final ResponseCache cache = new ResponseCache(new ResponseCacheProperties(Duration.ofMinutes(1),
+			DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), List.of("customers", "contrats"),
+			Map.of("customers", Set.of("contrats"))), new SimpleMeterRegistry());
+
+	@Test
+	void responsesAreKeptPerSubject() {
+		cache.put("customers", "alice", "/customers/1", cache.generation("customers"), response("{\"id\":1}"));
+
+		assertThat(cache.get("customers", "alice", "/customers/1")).isPresent();
+		assertThat(cache.get("customers", "bob", "/customers/1")).isEmpty();
+		assertThat(cache.get("customers", "", "/customers/1")).isEmpty();
+	}
+
+	@Test
+	void writePurgesTheResourceAndItsDependentsForEverySubject() {
+		cache.put("customers", "alice", "/customers/1", cache.generation("customers"), response("{}"));
+		cache.put("contrats", "bob", "/contrats/1", cache.generation("contrats"), response("{}"));
+
+		cache.purge("customers");
+
+		assertThat(cache.get("customers", "alice", "/customers/1")).isEmpty();
+		assertThat(cache.get("contrats", "bob", "/contrats/1")).isEmpty();
+	}
+
+	@Test
+	void responseStartedBeforeAWriteIsNotKept() {
+		long generation = cache.generation("customers");
+		cache.purge("customers");
+
+		cache.put("customers", "alice", "/customers/1", generation, response("{}"));
+
+		assertThat(cache.get("customers", "alice", "/customers/1")).isEmpty();
+	}
+
+	private static ResponseCache.CachedResponse response(String json) {
+		return new ResponseCache.CachedResponse(json.getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON, "\"0\"");
+	}
+}
@@ -0,0 +1,87 @@
+package org.assurance.gateway_service.portfolio;
+
+import org.assurance.gateway_service.security.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortfolioControllerTests {
+
+	private static final PortfolioProperties PROPERTIES =
+			new PortfolioProperties("customer-service", "policy-service", Duration.ofMillis(200), Duration.ofMillis(200));
+
+	@Test
+	void completePortfolioIsOk() {
+		ResponseEntity<PortfolioResponse> response = portfolio(answer(HttpStatus.OK, "{\"id\":1}"), answer(HttpStatus.OK, "[]"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().containsKey(PortfolioController.DEGRADED_HEADER)).isFalse();
+		assertThat(response.getBody().errors()).isEmpty();
+	}
+
+	// What the services really send for an unknown client: customer-service maps it to a problem 404,
+	// policy-service still fails /contrats/client/{id} with a 500
+	@Test
+	void unknownCustomerIsNotFound() {
+		ResponseEntity<PortfolioResponse> response = portfolio(
+				answer(HttpStatus.NOT_FOUND, MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+						"{\"type\":\"about:blank\",\"title\":\"Not Found\",\"status\":404,"
+								+ "\"detail\":\"Customer with ID 1 not found\",\"instance\":\"/customers/1\"}"),
+				answer(HttpStatus.INTERNAL_SERVER_ERROR, "{\"status\":500,\"error\":\"Internal Server Error\"}"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+		assertThat(response.getBody().errors()).containsEntry("customer", "customer answered 404");
+	}
+
+	@Test
+	void oneFailedLegIsADegradedOk() {
+		ResponseEntity<PortfolioResponse> response = portfolio(answer(HttpStatus.OK, "{\"id\":1}"),
+				answer(HttpStatus.INTERNAL_SERVER_ERROR, "{}"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().get(PortfolioController.DEGRADED_HEADER)).containsExactly("contrats");
+		assertThat(response.getBody().customer()).isNotNull();
+		assertThat(response.getBody().errors()).isEqualTo(Map.of("contrats", "contrats answered 500"));
+	}
+
+	@Test
+	void bothLegsFailedIsBadGateway() {
+		ResponseEntity<PortfolioResponse> response = portfolio(answer(HttpStatus.SERVICE_UNAVAILABLE, "{}"),
+				Mono.never());
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+		assertThat(response.getBody().errors()).containsOnlyKeys("customer", "contrats");
+		assertThat(response.getBody().errors().get("contrats")).isEqualTo("contrats did not answer within 200 ms");
+	}
+
+	private static ResponseEntity<PortfolioResponse> portfolio(Mono<ClientResponse> customer, Mono<ClientResponse> contrats) {
+		WebClient.Builder builder = WebClient.builder().exchangeFunction(request ->
+				request.url().getHost().equals("customer-service") ? customer : contrats);
+		PortfolioController controller = new PortfolioController(new PortfolioService(builder, PROPERTIES),
+				new JwtProperties("secret", "X-Authenticated-User", 10, List.of(), List.of()));
+		return controller.getPortfolio(1L, MockServerHttpRequest.get("/portfolio/1").build()).block();
+	}
+
+	private static Mono<ClientResponse> answer(HttpStatus status, String json) {
+		return answer(status, MediaType.APPLICATION_JSON_VALUE, json);
+	}
+
+	private static Mono<ClientResponse> answer(HttpStatus status, String contentType, String json) {
+		return Mono.just(ClientResponse.create(status)
+				.header(HttpHeaders.CONTENT_TYPE, contentType)
+				.body(json)
+				.build());
+	}
+}
@@ -0,0 +1,84 @@
+package org.assurance.gateway_service.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final LoadSheddingFilter filter = new LoadSheddingFilter(
+			new RateLimitProperties(new RateLimitProperties.Limits(100, 100, 2), Map.of(), 100, Duration.ofMinutes(10)),
+			meterRegistry);
+
+	@Test
+	void beyondTheInFlightLimitIsServiceUnavailable() {
+		Sinks.Empty<Void> upstream = Sinks.empty();
+		GatewayFilterChain pending = exchange -> upstream.asMono();
+		filter.filter(exchange(), pending).subscribe();
+		filter.filter(exchange(), pending).subscribe();
+
+		MockServerWebExchange shed = exchange();
+		filter.filter(shed, pending).block();
+
+		assertThat(shed.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(shed.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(inFlight()).isEqualTo(2);
+		assertThat(meterRegistry.get("gateway.requests.rejected").tags("route", "customers", "reason", "shed")
+				.counter().count()).isEqualTo(1);
+
+		upstream.tryEmitEmpty();
+		assertThat(inFlight()).isZero();
+		MockServerWebExchange admitted = exchange();
+		filter.filter(admitted, exchange -> Mono.empty()).block();
+		assertThat(admitted.getResponse().getStatusCode()).isNull();
+	}
+
+	@Test
+	void failedRequestsLeaveTheLimit() {
+		GatewayFilterChain failing = exchange -> Mono.error(new IllegalStateException("connection reset"));
+
+		for (int i = 0; i < 3; i++) {
+			filter.filter(exchange(), failing).onErrorResume(error -> Mono.empty()).block();
+		}
+
+		assertThat(inFlight()).isZero();
+		assertThat(meterRegistry.find("gateway.requests.rejected").counter()).isNull();
+	}
+
+	@Test
+	void cancelledRequestsLeaveTheLimit() {
+		GatewayFilterChain hanging = exchange -> Mono.never();
+		Disposable first = filter.filter(exchange(), hanging).subscribe();
+		Disposable second = filter.filter(exchange(), hanging).subscribe();
+		assertThat(inFlight()).isEqualTo(2);
+
+		first.dispose();
+		second.dispose();
+
+		assertThat(inFlight()).isZero();
+	}
+
+	private static MockServerWebExchange exchange() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/customers/1"));
+		exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, RateLimitFilterTests.route("customers"));
+		return exchange;
+	}
+
+	private double inFlight() {
+		return meterRegistry.get("gateway.requests.in_flight").tag("route", "customers").gauge().value();
+	}
+}
@@ -0,0 +1,107 @@
+package org.assurance.gateway_service.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assurance.gateway_service.security.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTests {
+
+	private static final String SUBJECT_HEADER = "X-Authenticated-User";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final RateLimitFilter filter = new RateLimitFilter(
+			new RateLimitProperties(new RateLimitProperties.Limits(1, 2, 10),
+					Map.of("auth", new RateLimitProperties.Limits(null, 1, null)), 100, Duration.ofMinutes(10)),
+			new JwtProperties("secret", SUBJECT_HEADER, 10, List.of(), List.of()), meterRegistry);
+
+	private final AtomicInteger forwarded = new AtomicInteger();
+	private final GatewayFilterChain chain = exchange -> {
+		forwarded.incrementAndGet();
+		return Mono.empty();
+	};
+
+	@Test
+	void burstPassesThenTooManyRequestsWithRetryAfter() {
+		assertThat(send("customers", "alice").getResponse().getStatusCode()).isNull();
+		assertThat(send("customers", "alice").getResponse().getStatusCode()).isNull();
+
+		MockServerWebExchange refused = send("customers", "alice");
+
+		assertThat(refused.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(refused.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(forwarded).hasValue(2);
+		assertThat(meterRegistry.get("gateway.requests.rejected").tags("route", "customers", "reason", "rate_limited")
+				.counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void eachCallerAndRouteHasItsOwnBucket() {
+		send("customers", "alice");
+		send("customers", "alice");
+
+		assertThat(send("customers", "bob").getResponse().getStatusCode()).isNull();
+		assertThat(send("contrats", "alice").getResponse().getStatusCode()).isNull();
+		assertThat(forwarded).hasValue(4);
+	}
+
+	@Test
+	void anonymousCallersAreLimitedByAddress() {
+		send("customers", null);
+		send("customers", null);
+
+		assertThat(send("customers", null).getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	@Test
+	void routeOverridesReplaceOnlyTheValuesTheySet() {
+		send("auth", "alice");
+
+		assertThat(send("auth", "alice").getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	@Test
+	void requestsOutsideARouteAreNotLimited() {
+		for (int i = 0; i < 5; i++) {
+			MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/portfolio/1"));
+			filter.filter(exchange, chain).block();
+		}
+
+		assertThat(forwarded).hasValue(5);
+	}
+
+	private MockServerWebExchange send(String routeId, String subject) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/" + routeId + "/1")
+				.remoteAddress(new InetSocketAddress("10.0.0.1", 40000));
+		if (subject != null) {
+			request.header(SUBJECT_HEADER, subject);
+		}
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+		exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route(routeId));
+		filter.filter(exchange, chain).block();
+		return exchange;
+	}
+
+	static Route route(String id) {
+		return Route.async()
+				.id(id)
+				.uri("http://localhost")
+				.predicate(exchange -> true)
+				.build();
+	}
+}
@@ -0,0 +1,65 @@
+package org.assurance.gateway_service.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+	private final AtomicLong now = new AtomicLong(1_000);
+
+	@Test
+	void burstIsGrantedAtOnceThenRefused() {
+		TokenBucket bucket = new TokenBucket(3, 10, now::get);
+
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+	}
+
+	@Test
+	void refillsAtTheReplenishRate() {
+		TokenBucket bucket = new TokenBucket(1, 10, now::get);
+		bucket.tryConsume();
+
+		advance(60);
+		assertThat(bucket.tryConsume()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+
+		advance(40);
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isPositive();
+	}
+
+	@Test
+	void refillStopsAtTheBurstCapacity() {
+		TokenBucket bucket = new TokenBucket(2, 10, now::get);
+		bucket.tryConsume();
+		bucket.tryConsume();
+
+		advance(10_000);
+
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isZero();
+		assertThat(bucket.tryConsume()).isPositive();
+	}
+
+	@Test
+	void refusedAttemptsDoNotUseUpTheRefill() {
+		TokenBucket bucket = new TokenBucket(1, 10, now::get);
+		bucket.tryConsume();
+
+		advance(50);
+		bucket.tryConsume();
+		advance(50);
+
+		assertThat(bucket.tryConsume()).isZero();
+	}
+
+	private void advance(long millis) {
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+}
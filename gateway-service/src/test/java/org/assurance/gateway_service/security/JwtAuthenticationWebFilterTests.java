@@ -0,0 +1,111 @@
+package org.assurance.gateway_service.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationWebFilterTests {
+
+	private static final String SUBJECT_HEADER = "X-Authenticated-User";
+
+	private final JwtProperties properties = new JwtProperties(VerifiedTokenCacheTests.SECRET, SUBJECT_HEADER, 10,
+			List.of("/api/auth/**"), List.of("/api/v2/spans"));
+	private final JwtAuthenticationWebFilter filter = new JwtAuthenticationWebFilter(
+			new VerifiedTokenCache(properties, new SimpleMeterRegistry()), properties);
+
+	// Request the chain was called with, null when the filter answered itself
+	private final AtomicReference<ServerHttpRequest> forwarded = new AtomicReference<>();
+	private final WebFilterChain chain = exchange -> {
+		forwarded.set(exchange.getRequest());
+		return Mono.empty();
+	};
+
+	@Test
+	void missingTokenIsUnauthorized() {
+		assertUnauthorized(MockServerHttpRequest.get("/customers/1"));
+	}
+
+	@Test
+	void malformedTokenIsUnauthorized() {
+		assertUnauthorized(MockServerHttpRequest.get("/customers/1").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"));
+	}
+
+	@Test
+	void tokenSignedWithAnotherKeyIsUnauthorized() {
+		String token = VerifiedTokenCacheTests.token("another-secret-of-at-least-256-bits-for-hs256", "alice",
+				Instant.now().plus(Duration.ofHours(1)));
+
+		assertUnauthorized(MockServerHttpRequest.get("/customers/1").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+	}
+
+	@Test
+	void expiredTokenIsUnauthorized() {
+		String token = VerifiedTokenCacheTests.token(VerifiedTokenCacheTests.SECRET, "alice", Instant.now().minusSeconds(5));
+
+		assertUnauthorized(MockServerHttpRequest.get("/customers/1").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+	}
+
+	@Test
+	void tokenWithoutTheBearerSchemeIsUnauthorized() {
+		String token = validToken("alice");
+
+		assertUnauthorized(MockServerHttpRequest.get("/customers/1").header(HttpHeaders.AUTHORIZATION, "Basic " + token));
+	}
+
+	@Test
+	void subjectHeaderIsSetFromTheTokenOverAnySuppliedOne() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/customers/1")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + validToken("alice"))
+				.header(SUBJECT_HEADER, "admin"));
+
+		filter.filter(exchange, chain).block();
+
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+		assertThat(forwarded.get().getHeaders().get(SUBJECT_HEADER)).containsExactly("alice");
+	}
+
+	@Test
+	void suppliedSubjectHeaderIsDroppedOnPublicPaths() {
+		assertForwardedWithoutSubject(MockServerHttpRequest.post("/api/auth/login").header(SUBJECT_HEADER, "admin"));
+	}
+
+	@Test
+	void suppliedSubjectHeaderIsDroppedOnInternalPaths() {
+		assertForwardedWithoutSubject(MockServerHttpRequest.post("/api/v2/spans").header(SUBJECT_HEADER, "admin"));
+	}
+
+	private void assertUnauthorized(MockServerHttpRequest.BaseBuilder<?> request) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+		filter.filter(exchange, chain).block();
+
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+		assertThat(forwarded.get()).isNull();
+	}
+
+	private void assertForwardedWithoutSubject(MockServerHttpRequest.BaseBuilder<?> request) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+		filter.filter(exchange, chain).block();
+
+		assertThat(forwarded.get()).isNotNull();
+		assertThat(forwarded.get().getHeaders().containsKey(SUBJECT_HEADER)).isFalse();
+	}
+
+	private static String validToken(String subject) {
+		return VerifiedTokenCacheTests.token(VerifiedTokenCacheTests.SECRET, subject, Instant.now().plus(Duration.ofHours(1)));
+	}
+}
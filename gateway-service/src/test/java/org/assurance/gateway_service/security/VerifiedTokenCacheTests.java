@@ -0,0 +1,88 @@
+package org.assurance.gateway_service.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class VerifiedTokenCacheTests {
+
+	static final String SECRET = "test-secret-of-at-least-256-bits-for-hs256";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final VerifiedTokenCache cache = new VerifiedTokenCache(
+			new JwtProperties(SECRET, "X-Authenticated-User", 10, List.of(), List.of()), meterRegistry);
+
+	@Test
+	void validTokenIsVerifiedOnceThenServedFromTheCache() {
+		String token = token(SECRET, "alice", Instant.now().plus(Duration.ofHours(1)));
+
+		assertThat(cache.verify(token)).get().extracting(VerifiedTokenCache.VerifiedToken::subject).isEqualTo("alice");
+		assertThat(cache.verify(token)).isPresent();
+
+		assertThat(gets("miss")).isEqualTo(1);
+		assertThat(gets("hit")).isEqualTo(1);
+	}
+
+	@Test
+	void rejectedTokensAreNotCached() {
+		String otherKey = token("another-secret-of-at-least-256-bits-for-hs256", "alice",
+				Instant.now().plus(Duration.ofHours(1)));
+
+		assertThat(cache.verify("not-a-token")).isEmpty();
+		assertThat(cache.verify(otherKey)).isEmpty();
+		assertThat(cache.verify(otherKey)).isEmpty();
+
+		assertThat(gets("hit")).isZero();
+		assertThat(meterRegistry.get("cache.size").gauge().value()).isZero();
+	}
+
+	@Test
+	void expiredTokenIsRejected() {
+		assertThat(cache.verify(token(SECRET, "alice", Instant.now().minusSeconds(5)))).isEmpty();
+	}
+
+	@Test
+	void cachedTokenExpiresAtItsExpClaim() {
+		// exp has a one second resolution: two seconds ahead leaves at least one
+		Instant exp = Instant.now().plusSeconds(2);
+		String token = token(SECRET, "alice", exp);
+		assertThat(cache.verify(token)).isPresent();
+
+		await().atMost(Duration.ofSeconds(4)).until(() -> cache.verify(token).isEmpty());
+
+		// Evicted by the cache's own expiry, not only refused by the check in verify
+		await().atMost(Duration.ofSeconds(1)).untilAsserted(() ->
+				assertThat(meterRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(1));
+	}
+
+	@Test
+	void secretIsRequired() {
+		assertThatThrownBy(() -> new JwtProperties(null, "X-Authenticated-User", 10, List.of(), List.of()))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new JwtProperties("${JWT_SECRET}", "X-Authenticated-User", 10, List.of(), List.of()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	static String token(String secret, String subject, Instant expiresAt) {
+		return Jwts.builder()
+				.setSubject(subject)
+				.setExpiration(Date.from(expiresAt))
+				.signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+				.compact();
+	}
+
+	private double gets(String result) {
+		return meterRegistry.get("cache.gets").tag("result", result).functionCounter().count();
+	}
+}
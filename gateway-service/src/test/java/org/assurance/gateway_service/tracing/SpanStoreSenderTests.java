@@ -0,0 +1,50 @@
+package org.assurance.gateway_service.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpanStoreSenderTests {
+
+	private final TracingProperties properties =
+			new TracingProperties(1000, Duration.ofMinutes(1), "token", DataSize.ofKilobytes(64));
+	private final SpanStore spanStore = new SpanStore(properties, new SimpleMeterRegistry());
+	private final SpanStoreSender sender = new SpanStoreSender(spanStore, new ObjectMapper(), properties);
+
+	@Test
+	void storesEachEncodedSpan() throws Exception {
+		sender.send(List.of(
+				encoded("{\"traceId\":\"t1\",\"id\":\"a\",\"name\":\"get\",\"timestamp\":10,\"duration\":5,"
+						+ "\"localEndpoint\":{\"serviceName\":\"gateway-service\"},\"shared\":true}"),
+				encoded("{\"traceId\":\"t1\",\"id\":\"b\",\"parentId\":\"a\",\"name\":\"route\"}")));
+
+		assertThat(spanStore.get("t1")).extracting(Span::id).containsExactly("a", "b");
+		assertThat(spanStore.get("t1").get(0).serviceName()).isEqualTo("gateway-service");
+	}
+
+	@Test
+	void batchesAreBoundedLikeCollectedOnes() {
+		assertThat(sender.messageMaxBytes()).isEqualTo(64 * 1024);
+	}
+
+	@Test
+	void collectorTokenIsRequired() {
+		assertThatThrownBy(() -> new TracingProperties(1000, Duration.ofMinutes(1), null, DataSize.ofKilobytes(64)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new TracingProperties(1000, Duration.ofMinutes(1), "${TRACING_COLLECTOR_TOKEN}",
+				DataSize.ofKilobytes(64)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static byte[] encoded(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+}
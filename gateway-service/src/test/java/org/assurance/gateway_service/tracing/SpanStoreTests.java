@@ -0,0 +1,48 @@
+package org.assurance.gateway_service.tracing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpanStoreTests {
+
+	private final SpanStore spanStore = new SpanStore(
+			new TracingProperties(1000, Duration.ofMinutes(1), "token", DataSize.ofMegabytes(1)), new SimpleMeterRegistry());
+
+	@Test
+	void mergesSpansOfATraceAcrossBatches() {
+		spanStore.add(List.of(span("t1", "a"), span("t2", "b")));
+		spanStore.add(List.of(span("t1", "c")));
+
+		assertThat(spanStore.get("t1")).extracting(Span::id).containsExactly("a", "c");
+		assertThat(spanStore.get("t2")).extracting(Span::id).containsExactly("b");
+		assertThat(spanStore.all()).hasSize(2);
+	}
+
+	@Test
+	void readersKeepTheListTheyWereGiven() {
+		spanStore.add(List.of(span("t1", "a")));
+		List<Span> read = spanStore.get("t1");
+
+		spanStore.add(List.of(span("t1", "b")));
+
+		assertThat(read).extracting(Span::id).containsExactly("a");
+	}
+
+	@Test
+	void dropsSpansWithoutTraceOrSpanId() {
+		spanStore.add(List.of(span(null, "a"), span("t1", null)));
+
+		assertThat(spanStore.all()).isEmpty();
+		assertThat(spanStore.get("t1")).isEmpty();
+	}
+
+	private static Span span(String traceId, String id) {
+		return new Span(traceId, id, null, "get", "SERVER", 0L, 10L, null, null, null);
+	}
+}
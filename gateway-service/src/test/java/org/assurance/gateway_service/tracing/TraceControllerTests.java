@@ -0,0 +1,83 @@
+package org.assurance.gateway_service.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TraceControllerTests {
+
+	private static final String TOKEN = "collector-secret";
+	private static final String BATCH = "[{\"traceId\":\"t1\",\"id\":\"a\",\"name\":\"get\",\"timestamp\":1000,\"duration\":50}]";
+
+	private final TracingProperties properties =
+			new TracingProperties(1000, Duration.ofMinutes(1), TOKEN, DataSize.ofKilobytes(1));
+	private final SpanStore spanStore = new SpanStore(properties, new SimpleMeterRegistry());
+	private final TraceController controller = new TraceController(spanStore, new ObjectMapper(), properties);
+
+	@Test
+	void storesPlainAndGzippedBatches() throws IOException {
+		controller.collect(BATCH.getBytes(StandardCharsets.UTF_8), null, TOKEN);
+		controller.collect(gzip(BATCH.replace("\"a\"", "\"b\"")), "gzip", TOKEN);
+
+		assertThat(spanStore.get("t1")).extracting(Span::id).containsExactly("a", "b");
+	}
+
+	@Test
+	void rejectsBatchesWithoutTheToken() {
+		assertThatThrownBy(() -> controller.collect(BATCH.getBytes(StandardCharsets.UTF_8), null, null))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+		assertThatThrownBy(() -> controller.collect(BATCH.getBytes(StandardCharsets.UTF_8), null, "guess"))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+		assertThat(spanStore.get("t1")).isEmpty();
+	}
+
+	@Test
+	void stopsInflatingPastTheLimit() throws IOException {
+		// A few bytes on the wire, far more than the limit once inflated
+		byte[] bomb = gzip(" ".repeat(1_000_000) + BATCH);
+
+		assertThatThrownBy(() -> controller.collect(bomb, "gzip", TOKEN))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+		assertThat(spanStore.get("t1")).isEmpty();
+	}
+
+	@Test
+	void listsRecentTracesSlowerThanTheMinimum() {
+		spanStore.add(List.of(
+				span("fast", 1_000, 50),
+				span("slow", 2_000, 500),
+				span("slower", 3_000, 900)));
+
+		assertThat(controller.recent(Duration.ofNanos(100_000), 20)).extracting(TraceView.Summary::traceId)
+				.containsExactly("slower", "slow");
+		assertThat(controller.recent(null, 1)).extracting(TraceView.Summary::traceId).containsExactly("slower");
+	}
+
+	private static Span span(String traceId, long timestamp, long duration) {
+		return new Span(traceId, "a", null, "get", "SERVER", timestamp, duration, null, null, null);
+	}
+
+	private static byte[] gzip(String json) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(json.getBytes(StandardCharsets.UTF_8));
+		}
+		return out.toByteArray();
+	}
+}
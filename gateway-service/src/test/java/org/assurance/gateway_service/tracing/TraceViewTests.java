@@ -0,0 +1,76 @@
+package org.assurance.gateway_service.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceViewTests {
+
+	@Test
+	void chargesEachServiceOnlyForItsSelfTime() {
+		List<Span> spans = List.of(
+				span("g", "c2", "policy-service", "repository.call", 25, 20L),
+				span("r", null, "gateway-service", "get /portfolio", 0, 100L),
+				span("c1", "r", "customer-service", "get /customers/{id}", 10, 30L),
+				span("c2", "r", "policy-service", "get /contrats", 20, 50L));
+
+		TraceView view = TraceView.of("t1", spans);
+
+		assertThat(view.services()).containsExactly(
+				Map.entry("customer-service", new TraceView.ServiceTime(1, 30, 30)),
+				Map.entry("gateway-service", new TraceView.ServiceTime(1, 100, 20)),
+				Map.entry("policy-service", new TraceView.ServiceTime(2, 70, 50)));
+		assertThat(view.spans()).extracting(Span::id).containsExactly("r", "c1", "c2", "g");
+	}
+
+	@Test
+	void selfTimeNeverGoesNegative() {
+		// Children overlapping in parallel can add up to more than their parent
+		TraceView view = TraceView.of("t1", List.of(
+				span("r", null, "gateway-service", "get", 0, 40L),
+				span("a", "r", "customer-service", "get", 5, 30L),
+				span("b", "r", "policy-service", "get", 5, 30L)));
+
+		assertThat(view.services().get("gateway-service").selfMicros()).isZero();
+	}
+
+	@Test
+	void spanWithoutDurationCountsAsZero() {
+		TraceView view = TraceView.of("t1", List.of(
+				span("r", null, "gateway-service", "get", 0, 40L),
+				span("a", "r", "customer-service", "get", 5, null)));
+
+		assertThat(view.services().get("customer-service")).isEqualTo(new TraceView.ServiceTime(1, 0, 0));
+		assertThat(view.services().get("gateway-service").selfMicros()).isEqualTo(40);
+	}
+
+	@Test
+	void summarySpansFromFirstStartToLastEnd() {
+		TraceView.Summary summary = TraceView.summarize("t1", List.of(
+				span("a", "r", "customer-service", "get", 2_000_010, 30L),
+				span("r", null, "gateway-service", "get /portfolio", 2_000_000, 25L)));
+
+		assertThat(summary.root()).isEqualTo("gateway-service get /portfolio");
+		assertThat(summary.startedAt()).isEqualTo(Instant.ofEpochSecond(2));
+		assertThat(summary.durationMicros()).isEqualTo(40);
+		assertThat(summary.spans()).isEqualTo(2);
+	}
+
+	@Test
+	void earliestSpanStandsInUntilTheRootArrives() {
+		TraceView.Summary summary = TraceView.summarize("t1", List.of(
+				span("b", "r", "policy-service", "get /contrats", 20, 10L),
+				span("a", "r", "customer-service", "get /customers/{id}", 10, 5L)));
+
+		assertThat(summary.root()).isEqualTo("customer-service get /customers/{id}");
+	}
+
+	private static Span span(String id, String parentId, String service, String name, long timestamp, Long duration) {
+		return new Span("t1", id, parentId, name, "SERVER", timestamp, duration,
+				new Span.Endpoint(service, null, null), null, null);
+	}
+}
@@ -0,0 +1,63 @@
+package org.assurance.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Times every public method of a layer as "method.timed", tagged the same way in every service:
+ * class, method, layer, exception. Percentile histograms are enabled in config.
+ */
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    public static final String METRIC_NAME = "method.timed";
+
+    private final MeterRegistry meterRegistry;
+    private final String layer;
+
+    public MethodTimingInterceptor(MeterRegistry meterRegistry, String layer) {
+        this.meterRegistry = meterRegistry;
+        this.layer = layer;
+    }
+
+    /**
+     * Advisor timing the classes annotated with {@code stereotype} in {@code packages} (and their
+     * sub-packages), so that library beans carrying the same stereotype are left unproxied.
+     */
+    public static Advisor advisor(List<String> packages, Class<? extends Annotation> stereotype, String layer,
+                                  MeterRegistry meterRegistry) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(packages.stream()
+                .map(basePackage -> "within(" + basePackage + "..*)")
+                .collect(Collectors.joining(" || ", "(", ")"))
+                + " && within(@" + stereotype.getName() + " *)");
+        return new DefaultPointcutAdvisor(pointcut, new MethodTimingInterceptor(meterRegistry, layer));
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("class", invocation.getMethod().getDeclaringClass().getSimpleName())
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("layer", layer)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.assurance.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.tracing.zipkin.ZipkinRestTemplateBuilderCustomizer;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Observability shared by the auth, customer and policy services: controller and service timing
+ * limited to the application's own packages, a span per repository call, and trace export to the
+ * gateway collector.
+ */
+@AutoConfiguration
+public class ObservabilityAutoConfiguration {
+
+    @Bean
+    public Advisor controllerTimingAdvisor(BeanFactory beanFactory, MeterRegistry meterRegistry) {
+        return MethodTimingInterceptor.advisor(AutoConfigurationPackages.get(beanFactory), RestController.class,
+                "controller", meterRegistry);
+    }
+
+    @Bean
+    public Advisor serviceTimingAdvisor(BeanFactory beanFactory, MeterRegistry meterRegistry) {
+        return MethodTimingInterceptor.advisor(AutoConfigurationPackages.get(beanFactory), Service.class,
+                "service", meterRegistry);
+    }
+
+    @Bean
+    public RepositoryObservationAspect repositoryObservationAspect(ObservationRegistry observationRegistry) {
+        return new RepositoryObservationAspect(observationRegistry);
+    }
+
+    // No traces for infrastructure calls (probes, Prometheus scrapes)
+    @Bean
+    public ObservationPredicate ignoreActuatorRequests() {
+        return (name, context) -> !(context instanceof ServerRequestObservationContext request
+                && request.getCarrier().getRequestURI().startsWith("/actuator"));
+    }
+
+    // The gateway collector only accepts batches carrying the shared token. Boot picks the
+    // RestTemplate sender (spring-web is present), the only one whose headers can be set
+    @Bean
+    @SuppressWarnings("removal")
+    public ZipkinRestTemplateBuilderCustomizer collectorToken(@Value("${tracing.collector-token}") String token) {
+        return builder -> builder.defaultHeader("X-Collector-Token", token);
+    }
+}
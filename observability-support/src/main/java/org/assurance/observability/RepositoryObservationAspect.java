@@ -0,0 +1,42 @@
+package org.assurance.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+
+/**
+ * Opens a "repository.call" span around every Spring Data repository call, so a trace shows
+ * how much of a service's time went to the database.
+ * For methods returning a Stream the span covers opening the cursor, not reading it.
+ */
+@Aspect
+public class RepositoryObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    public RepositoryObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis())[0].getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted("repository.call", observationRegistry)
+                .contextualName(repository + "." + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
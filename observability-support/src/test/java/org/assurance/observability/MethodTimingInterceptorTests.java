@@ -0,0 +1,103 @@
+package org.assurance.observability;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MethodTimingInterceptorTests {
+
+	private static final List<String> PACKAGES = List.of("org.assurance.observability");
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void timesServiceCallsWithClassMethodAndLayer() {
+		SampleService service = proxy(new SampleService(), PACKAGES, Service.class, "service");
+
+		service.list();
+
+		assertThat(timer("SampleService", "list", "service", "none").count()).isEqualTo(1);
+	}
+
+	@Test
+	void tagsTheExceptionThrown() {
+		SampleService service = proxy(new SampleService(), PACKAGES, Service.class, "service");
+
+		assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+		assertThat(timer("SampleService", "fail", "service", "IllegalStateException").count()).isEqualTo(1);
+	}
+
+	@Test
+	void timesControllerCallsUnderTheControllerLayer() {
+		SampleController controller = proxy(new SampleController(), PACKAGES, RestController.class, "controller");
+
+		controller.show();
+
+		assertThat(timer("SampleController", "show", "controller", "none").count()).isEqualTo(1);
+	}
+
+	@Test
+	void leavesClassesOutsideTheApplicationPackagesUntimed() {
+		SampleService service = proxy(new SampleService(), List.of("com.example"), Service.class, "service");
+
+		service.list();
+
+		assertThat(meterRegistry.find(MethodTimingInterceptor.METRIC_NAME).timers()).isEmpty();
+	}
+
+	@Test
+	void leavesClassesWithoutTheStereotypeUntimed() {
+		SampleController controller = proxy(new SampleController(), PACKAGES, Service.class, "service");
+
+		controller.show();
+
+		assertThat(meterRegistry.find(MethodTimingInterceptor.METRIC_NAME).timers()).isEmpty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T proxy(T target, List<String> packages, Class<? extends Annotation> stereotype, String layer) {
+		ProxyFactory factory = new ProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		factory.addAdvisor(MethodTimingInterceptor.advisor(packages, stereotype, layer, meterRegistry));
+		return (T) factory.getProxy();
+	}
+
+	private Timer timer(String className, String method, String layer, String exception) {
+		return meterRegistry.get(MethodTimingInterceptor.METRIC_NAME)
+				.tag("class", className)
+				.tag("method", method)
+				.tag("layer", layer)
+				.tag("exception", exception)
+				.timer();
+	}
+
+	@Service
+	static class SampleService {
+
+		public String list() {
+			return "ok";
+		}
+
+		public String fail() {
+			throw new IllegalStateException("customer not found");
+		}
+	}
+
+	@RestController
+	static class SampleController {
+
+		public String show() {
+			return "ok";
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package org.assurance.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObservabilityAutoConfigurationTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class,
+					AopAutoConfiguration.class, ObservabilityAutoConfiguration.class))
+			.withUserConfiguration(SampleApplication.class);
+
+	@Test
+	void timesTheServicesOfTheApplicationPackage() {
+		contextRunner.withPropertyValues("tracing.collector-token=test-token").run(context -> {
+			context.getBean(SampleService.class).list();
+
+			assertThat(context.getBean(MeterRegistry.class).get(MethodTimingInterceptor.METRIC_NAME)
+					.tag("class", "SampleService")
+					.tag("layer", "service")
+					.timer().count()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	void failsToStartWithoutTheCollectorToken() {
+		contextRunner.run(context -> assertThat(context).hasFailed());
+	}
+
+	@Configuration
+	@AutoConfigurationPackage
+	static class SampleApplication {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		ObservationRegistry observationRegistry() {
+			return ObservationRegistry.create();
+		}
+
+		@Bean
+		SampleService sampleService() {
+			return new SampleService();
+		}
+	}
+
+	@Service
+	static class SampleService {
+
+		public String list() {
+			return "ok";
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package org.assurance.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RepositoryObservationAspectTests {
+
+	private final List<Observation.Context> stopped = new ArrayList<>();
+
+	private SampleRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<>() {
+			@Override
+			public void onStop(Observation.Context context) {
+				stopped.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+		});
+		AspectJProxyFactory factory = new AspectJProxyFactory(new SampleRepositoryImpl());
+		factory.addInterface(SampleRepository.class);
+		factory.addAspect(new RepositoryObservationAspect(registry));
+		repository = factory.getProxy();
+	}
+
+	@Test
+	void observesEachCallUnderTheRepositoryAndMethodName() {
+		assertThat(repository.find("customer")).isEqualTo("customer");
+
+		assertThat(stopped).singleElement().satisfies(context -> {
+			assertThat(context.getName()).isEqualTo("repository.call");
+			assertThat(context.getContextualName()).isEqualTo("SampleRepository.find");
+			assertThat(context.getLowCardinalityKeyValue("repository").getValue()).isEqualTo("SampleRepository");
+			assertThat(context.getLowCardinalityKeyValue("method").getValue()).isEqualTo("find");
+			assertThat(context.getError()).isNull();
+		});
+	}
+
+	@Test
+	void recordsTheErrorAndRethrowsIt() {
+		assertThatThrownBy(() -> repository.find(null)).isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(stopped).singleElement()
+				.satisfies(context -> assertThat(context.getError()).isInstanceOf(IllegalArgumentException.class));
+	}
+
+	interface SampleRepository extends Repository<Object, Long> {
+
+		String find(String value);
+	}
+
+	static class SampleRepositoryImpl implements SampleRepository {
+
+		@Override
+		public String find(String value) {
+			if (value == null) {
+				throw new IllegalArgumentException("missing value");
+			}
+			return value;
+		}
+	}
+}
@@ -2,10 +2,14 @@ package org.assurance.policy_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class PolicyServiceApplication {
 
 	public static void main(String[] args) {
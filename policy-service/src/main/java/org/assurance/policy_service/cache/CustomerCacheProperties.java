@@ -0,0 +1,20 @@
+package org.assurance.policy_service.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "customer-cache")
+public class CustomerCacheProperties {
+    // Nombre maximal de clients gardés en mémoire
+    private long maximumSize = 10_000;
+
+    // Durée de vie d'une réponse "le client existe"
+    private Duration positiveTtl = Duration.ofMinutes(5);
+
+    // Durée de vie plus courte d'une réponse "le client n'existe pas",
+    // pour qu'un client fraîchement créé soit vite visible
+    private Duration negativeTtl = Duration.ofSeconds(15);
+}
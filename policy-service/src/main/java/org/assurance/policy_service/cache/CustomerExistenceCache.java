@@ -0,0 +1,137 @@
+package org.assurance.policy_service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.assurance.policy_service.feign.CustomerClient;
+import org.assurance.policy_service.feign.CustomerExistsCollapser;
+import org.assurance.policy_service.feign.CustomerFallback;
+import org.assurance.policy_service.feign.CustomerServiceUnavailableException;
+import org.assurance.policy_service.replica.CustomerReplica;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Cache local devant {@link CustomerClient#checkCustomerExists(Long)}.
+ * Les réponses positives et négatives ont des durées de vie distinctes ;
+ * les statistiques (hit/miss/eviction) sont publiées sous le nom "customerExists".
+ * Les défauts de cache passent par {@link CustomerExistsCollapser} pour être regroupés.
+ * Le cache est asynchrone : l'attente de customer-service se fait hors du verrou de Caffeine,
+ * ce qui évite d'épingler le thread porteur quand les threads virtuels sont activés.
+ * Un client présent dans la {@link CustomerReplica} est confirmé sans passer par le cache ;
+ * un client absent peut être plus récent que la réplique et reste vérifié à distance.
+ * Quand customer-service est indisponible, la réponse de {@link CustomerFallback} est donnée
+ * sans être mise en cache : une supposition ne doit pas survivre au retour du service.
+ */
+@Component
+public class CustomerExistenceCache {
+
+    public static final String CACHE_NAME = "customerExists";
+
+    private final CustomerExistsCollapser customerExistsCollapser;
+    private final CustomerReplica customerReplica;
+    private final CustomerFallback customerFallback;
+    private final AsyncCache<Long, Boolean> cache;
+
+    public CustomerExistenceCache(CustomerExistsCollapser customerExistsCollapser,
+                                  CustomerReplica customerReplica,
+                                  CustomerFallback customerFallback,
+                                  CustomerCacheProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.customerExistsCollapser = customerExistsCollapser;
+        this.customerReplica = customerReplica;
+        this.customerFallback = customerFallback;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new ExistenceExpiry(properties.getPositiveTtl().toNanos(),
+                        properties.getNegativeTtl().toNanos()))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean exists(Long clientId) {
+        if (estConnuDeLaReplique(clientId)) {
+            return true;
+        }
+        try {
+            // Un futur en échec est retiré du cache par Caffeine
+            return cache.get(clientId, (id, executor) -> customerExistsCollapser.submit(id)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CustomerServiceUnavailableException indisponible) {
+                return repli(Set.of(clientId), indisponible).get(clientId);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Map<Long, Boolean> existsAll(Collection<Long> clientIds) {
+        Map<Long, Boolean> reponses = new HashMap<>();
+        List<Long> inconnus = new ArrayList<>();
+        for (Long clientId : clientIds) {
+            if (estConnuDeLaReplique(clientId)) {
+                reponses.put(clientId, true);
+            } else {
+                inconnus.add(clientId);
+            }
+        }
+        if (!inconnus.isEmpty()) {
+            try {
+                reponses.putAll(cache.synchronous().getAll(inconnus, customerExistsCollapser::existsAll));
+            } catch (CustomerServiceUnavailableException indisponible) {
+                Map<Long, Boolean> enCache = cache.synchronous().getAllPresent(inconnus);
+                reponses.putAll(enCache);
+                List<Long> restants = inconnus.stream().filter(id -> !enCache.containsKey(id)).toList();
+                reponses.putAll(repli(restants, indisponible));
+            }
+        }
+        return reponses;
+    }
+
+    public void invalidate(Long clientId) {
+        cache.synchronous().invalidate(clientId);
+    }
+
+    // Réponses de repli hors cache ; refus si la politique ne sait pas répondre pour tous les clients
+    private Map<Long, Boolean> repli(Collection<Long> clientIds, CustomerServiceUnavailableException indisponible) {
+        Map<Long, Boolean> reponses = customerFallback.resolve(clientIds);
+        if (reponses.size() < clientIds.size()) {
+            throw indisponible;
+        }
+        return reponses;
+    }
+
+    private boolean estConnuDeLaReplique(Long clientId) {
+        return clientId != null && customerReplica.estPrete() && customerReplica.contient(clientId);
+    }
+
+    private record ExistenceExpiry(long positiveTtlNanos, long negativeTtlNanos) implements Expiry<Long, Boolean> {
+
+        @Override
+        public long expireAfterCreate(Long key, Boolean exists, long currentTime) {
+            return exists ? positiveTtlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Boolean exists, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, exists, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Boolean exists, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.assurance.policy_service.concurrent;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Exécute en parallèle des appels indépendants (requête JPA, appel Feign) sur un exécuteur borné,
+ * pour que la latence soit max(appels) et non leur somme.
+ * Dès qu'un appel échoue, l'autre est interrompu ; au-delà du délai, les deux le sont.
+ * L'exécuteur n'est volontairement pas un bean, pour ne pas remplacer l'exécuteur applicatif de Spring Boot.
+ * Le contexte de trace de l'appelant est propagé aux appels parallèles.
+ */
+@Component
+public class FanOutExecutor implements DisposableBean {
+
+    private final AsyncTaskExecutor executor;
+    private final FanOutProperties properties;
+
+    public FanOutExecutor(FanOutProperties properties,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.properties = properties;
+        this.executor = virtualThreads ? virtualExecutor(properties) : platformExecutor(properties);
+    }
+
+    public <A, B, R> R both(Supplier<A> premier, Supplier<B> second, BiFunction<A, B, R> combiner) {
+        Tache<A> a = lancer(premier);
+        Tache<B> b = lancer(second);
+        a.resultat().whenComplete((valeur, erreur) -> {
+            if (erreur != null) {
+                b.annuler();
+            }
+        });
+        b.resultat().whenComplete((valeur, erreur) -> {
+            if (erreur != null) {
+                a.annuler();
+            }
+        });
+
+        try {
+            CompletableFuture.allOf(a.resultat(), b.resultat())
+                    .get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            return combiner.apply(a.resultat().join(), b.resultat().join());
+        } catch (TimeoutException e) {
+            a.annuler();
+            b.annuler();
+            throw new RuntimeException("Délai dépassé pour les appels parallèles", e);
+        } catch (InterruptedException e) {
+            a.annuler();
+            b.annuler();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Appels parallèles interrompus", e);
+        } catch (ExecutionException | CompletionException e) {
+            throw propager(premiereErreur(a, b, e));
+        }
+    }
+
+    private <T> Tache<T> lancer(Supplier<T> appel) {
+        CompletableFuture<T> resultat = new CompletableFuture<>();
+        Future<?> execution = executor.submit(() -> {
+            try {
+                resultat.complete(appel.get());
+            } catch (Throwable t) {
+                resultat.completeExceptionally(t);
+            }
+        });
+        return new Tache<>(resultat, execution);
+    }
+
+    // L'erreur d'origine plutôt que l'annulation qu'elle a provoquée chez l'autre appel
+    private static Throwable premiereErreur(Tache<?> a, Tache<?> b, Exception e) {
+        for (Tache<?> tache : new Tache<?>[]{a, b}) {
+            if (tache.resultat().isCompletedExceptionally() && !tache.resultat().isCancelled()) {
+                try {
+                    tache.resultat().join();
+                } catch (CompletionException erreur) {
+                    return erreur.getCause();
+                }
+            }
+        }
+        return e.getCause() != null ? e.getCause() : e;
+    }
+
+    private static RuntimeException propager(Throwable erreur) {
+        if (erreur instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (erreur instanceof Error error) {
+            throw error;
+        }
+        return new RuntimeException(erreur);
+    }
+
+    private static AsyncTaskExecutor platformExecutor(FanOutProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getThreads());
+        executor.setMaxPoolSize(properties.getThreads());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    private static AsyncTaskExecutor virtualExecutor(FanOutProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fan-out-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(properties.getThreads());
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        }
+    }
+
+    private record Tache<T>(CompletableFuture<T> resultat, Future<?> execution) {
+
+        // Résultat annulé avant l'interruption : l'erreur que celle-ci provoque dans l'appel
+        // ne peut plus masquer celle d'origine
+        void annuler() {
+            resultat.cancel(false);
+            execution.cancel(true);
+        }
+    }
+}
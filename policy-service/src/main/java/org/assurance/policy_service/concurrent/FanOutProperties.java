@@ -0,0 +1,19 @@
+package org.assurance.policy_service.concurrent;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "fan-out")
+public class FanOutProperties {
+    // Appels parallèles simultanés au maximum (threads en mode plateforme)
+    private int threads = 32;
+
+    // File d'attente en mode plateforme ; au-delà l'appel s'exécute sur le thread appelant
+    private int queueCapacity = 200;
+
+    // Délai global accordé aux appels lancés en parallèle
+    private Duration timeout = Duration.ofSeconds(3);
+}
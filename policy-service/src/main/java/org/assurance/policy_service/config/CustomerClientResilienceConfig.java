@@ -0,0 +1,73 @@
+package org.assurance.policy_service.config;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.assurance.policy_service.feign.CustomerClient;
+import org.assurance.policy_service.feign.CustomerClientProperties;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadConfigurationBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadProvider;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Disjoncteur et bulkhead appliqués par OpenFeign aux méthodes de {@link CustomerClient}.
+ * Le délai est borné par les timeouts Feign : le bulkhead sémaphore exécute l'appel sur le thread
+ * appelant, sans pool intermédiaire ni TimeLimiter.
+ * Les autres clients Feign ({@code CustomerEventsClient} de la réplique) gardent les réglages par
+ * défaut de Resilience4j : leurs échecs ne doivent pas ouvrir le circuit des vérifications.
+ */
+@Configuration
+public class CustomerClientResilienceConfig {
+
+    private static final String CUSTOMER_CLIENT = CustomerClient.class.getSimpleName();
+
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> customerClientCircuitBreaker(CustomerClientProperties properties) {
+        CustomerClientProperties.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+        return factory -> factory.configureDefault(id -> {
+            if (!estCustomerClient(id)) {
+                return new Resilience4JConfigBuilder(id).build();
+            }
+            return new Resilience4JConfigBuilder(id)
+                    .circuitBreakerConfig(CircuitBreakerConfig.custom()
+                            .failureRateThreshold(circuitBreaker.getFailureRateThreshold())
+                            .slowCallDurationThreshold(circuitBreaker.getSlowCallDuration())
+                            .slowCallRateThreshold(circuitBreaker.getSlowCallRateThreshold())
+                            .slidingWindowSize(circuitBreaker.getSlidingWindowSize())
+                            .minimumNumberOfCalls(circuitBreaker.getMinimumNumberOfCalls())
+                            .waitDurationInOpenState(circuitBreaker.getWaitDurationInOpenState())
+                            .build())
+                    .build();
+        });
+    }
+
+    @Bean
+    public Customizer<Resilience4jBulkheadProvider> customerClientBulkhead(CustomerClientProperties properties) {
+        return provider -> provider.configureDefault(id -> {
+            if (!estCustomerClient(id)) {
+                return new Resilience4jBulkheadConfigurationBuilder().build();
+            }
+            return new Resilience4jBulkheadConfigurationBuilder()
+                    .bulkheadConfig(BulkheadConfig.custom()
+                            .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                            .maxWaitDuration(Duration.ZERO)
+                            .build())
+                    .build();
+        });
+    }
+
+    // Identifiant OpenFeign "CustomerClient#methode(...)", ou "CustomerClientmethode..." avec
+    // alphanumeric-ids : le nom de l'interface est suivi de '#' ou du nom de méthode en minuscule
+    static boolean estCustomerClient(String id) {
+        if (!id.startsWith(CUSTOMER_CLIENT) || id.length() == CUSTOMER_CLIENT.length()) {
+            return false;
+        }
+        char suivant = id.charAt(CUSTOMER_CLIENT.length());
+        return suivant == '#' || Character.isLowerCase(suivant);
+    }
+}
@@ -0,0 +1,28 @@
+package org.assurance.policy_service.config;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.assurance.policy_service.service.interfaces.ContratService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recalcule les agrégats de sinistres de tous les contrats au démarrage.
+ * À activer une fois pour reprendre les contrats créés avant l'introduction des agrégats.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "contrat-totaux.recalcul-au-demarrage", havingValue = "true")
+public class TotauxContratInitializer implements ApplicationRunner {
+
+    private final ContratService contratService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int contrats = contratService.recalculerTotaux();
+        log.info("Agrégats de sinistres recalculés pour {} contrats", contrats);
+    }
+}
@@ -4,6 +4,7 @@ package org.assurance.policy_service.controller;
 import lombok.AllArgsConstructor;
 import org.assurance.policy_service.dto.ContratRequestDTO;
 import org.assurance.policy_service.dto.ContratResponseDTO;
+import org.assurance.policy_service.dto.ContratTotauxDTO;
 import org.assurance.policy_service.service.interfaces.ContratService;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +31,12 @@ public class ContratController {
         return contratService.getContratById(id);
     }
 
+    // Consulter les totaux des sinistres d'un contrat et la couverture restante
+    @GetMapping("/{id}/totaux")
+    public ContratTotauxDTO getTotauxContrat(@PathVariable Long id) {
+        return contratService.getTotauxContrat(id);
+    }
+
     // Lister les contrats d'un client
     @GetMapping("/client/{clientId}")
     public List<ContratResponseDTO> getContratsByClientId(@PathVariable Long clientId) {
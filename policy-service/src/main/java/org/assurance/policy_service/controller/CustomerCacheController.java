@@ -0,0 +1,25 @@
+package org.assurance.policy_service.controller;
+
+import lombok.AllArgsConstructor;
+import org.assurance.policy_service.cache.CustomerExistenceCache;
+import org.assurance.policy_service.replica.CustomerReplica;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/internal/customers")
+@AllArgsConstructor
+public class CustomerCacheController {
+
+    private final CustomerExistenceCache customerExistenceCache;
+    private final CustomerReplica customerReplica;
+
+    // Invalider l'entrée du cache d'existence d'un client (appelé par customer-service
+    // après la suppression) ; la réplique l'oublie sans attendre l'outbox
+    @DeleteMapping("/{id}/cache")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void invalidate(@PathVariable Long id) {
+        customerExistenceCache.invalidate(id);
+        customerReplica.retirer(id);
+    }
+}
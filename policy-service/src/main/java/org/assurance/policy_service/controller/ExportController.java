@@ -0,0 +1,48 @@
+package org.assurance.policy_service.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.assurance.policy_service.service.interfaces.ExportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/export")
+@AllArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
+
+    // Exporter les contrats et leurs sinistres en NDJSON (un contrat par ligne),
+    // éventuellement limités à ceux modifiés depuis "since"
+    @GetMapping(value = "/contrats", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exporterContrats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        StreamingResponseBody body = outputStream ->
+                exportService.exporterContrats(since, contrat -> ecrireLigne(outputStream, contrat));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void ecrireLigne(OutputStream outputStream, Object valeur) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(valeur));
+            outputStream.write('\n');
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sérialisation impossible", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
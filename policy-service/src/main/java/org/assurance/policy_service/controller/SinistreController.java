@@ -1,12 +1,18 @@
 package org.assurance.policy_service.controller;
 
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.assurance.policy_service.dto.SinistreBatchResultDTO;
 import org.assurance.policy_service.dto.SinistreRequestDTO;
 import org.assurance.policy_service.dto.SinistreResponseDTO;
+import org.assurance.policy_service.dto.SinistreSearchResponseDTO;
+import org.assurance.policy_service.entity.enums.TypeContrat;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.assurance.policy_service.service.interfaces.SinistreService;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,13 +25,31 @@ public class SinistreController {
     // Déclarer un sinistre
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public SinistreResponseDTO declarerSinistre(@RequestBody SinistreRequestDTO sinistreRequestDto) {
+    public SinistreResponseDTO declarerSinistre(@Valid @RequestBody SinistreRequestDTO sinistreRequestDto) {
         return sinistreService.declarerSinistre(sinistreRequestDto);
     }
 
+    // Déclarer des sinistres en masse (résultat ligne par ligne, lignes invalides comprises)
+    @PostMapping("/batch")
+    public List<SinistreBatchResultDTO> declarerSinistres(@RequestBody List<SinistreRequestDTO> sinistreRequestDtos) {
+        return sinistreService.declarerSinistres(sinistreRequestDtos);
+    }
+
     // Lister les sinistres par contrat
     @GetMapping("/contrat/{contratId}")
     public List<SinistreResponseDTO> getSinistresByContratId(@PathVariable Long contratId) {
         return sinistreService.getSinistresByContratId(contratId);
     }
+
+    // Recherche plein texte dans les descriptions, filtrée par période et type de contrat
+    @GetMapping("/search")
+    public SinistreSearchResponseDTO rechercherSinistres(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) TypeContrat type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return sinistreService.rechercherSinistres(q, from, to, type, page, size);
+    }
 }
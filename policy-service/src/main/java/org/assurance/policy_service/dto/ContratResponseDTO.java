@@ -13,6 +13,10 @@ public class ContratResponseDTO {
     private LocalDate dateExpiration;
     private Double montantCouverture;
     private Long clientId;
+    private Integer nombreSinistres;
+    private Double totalReclame;
+    private Double totalRembourse;
+    private Double couvertureRestante;
     private List<SinistreResponseDTO> sinistres;
 }
 
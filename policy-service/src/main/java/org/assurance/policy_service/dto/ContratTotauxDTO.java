@@ -0,0 +1,13 @@
+package org.assurance.policy_service.dto;
+
+import lombok.Data;
+
+@Data
+public class ContratTotauxDTO {
+    private Long contratId;
+    private Integer nombreSinistres;
+    private Double totalReclame;
+    private Double totalRembourse;
+    private Double montantCouverture;
+    private Double couvertureRestante;
+}
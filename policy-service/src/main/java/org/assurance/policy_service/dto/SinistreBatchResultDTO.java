@@ -0,0 +1,24 @@
+package org.assurance.policy_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SinistreBatchResultDTO {
+    // Position de la ligne dans le lot reçu (à partir de 0)
+    private int ligne;
+    private boolean succes;
+    private Long id;
+    private String erreur;
+
+    public static SinistreBatchResultDTO cree(int ligne, Long id) {
+        return new SinistreBatchResultDTO(ligne, true, id, null);
+    }
+
+    public static SinistreBatchResultDTO rejete(int ligne, String erreur) {
+        return new SinistreBatchResultDTO(ligne, false, null, erreur);
+    }
+}
@@ -1,14 +1,21 @@
 package org.assurance.policy_service.dto;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 
 import java.time.LocalDate;
 
 @Data
 public class SinistreRequestDTO {
+    @NotNull(message = "La date du sinistre est obligatoire")
     private LocalDate date;
     private String description;
+    @NotNull(message = "Le montant réclamé est obligatoire")
+    @PositiveOrZero(message = "Le montant réclamé ne peut pas être négatif")
     private Double montantRéclamé;
+    @NotNull(message = "Le montant remboursé est obligatoire")
+    @PositiveOrZero(message = "Le montant remboursé ne peut pas être négatif")
     private Double montantRemboursé;
     private Long contratId;
 }
@@ -0,0 +1,25 @@
+package org.assurance.policy_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SinistreSearchResponseDTO {
+    private List<Resultat> resultats;
+    private int page;
+    private int size;
+    private long total;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Resultat {
+        private SinistreResponseDTO sinistre;
+        private double score;
+    }
+}
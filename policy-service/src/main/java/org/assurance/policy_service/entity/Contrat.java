@@ -2,9 +2,13 @@ package org.assurance.policy_service.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.assurance.policy_service.entity.enums.TypeContrat;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
@@ -13,9 +17,17 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
+// Index de la recherche des contrats d'un client (findByClientId, findWithSinistresByClientId)
+@Table(indexes = @Index(name = "idx_contrat_client_id", columnList = "client_id"))
+// Cache de second niveau : régions et durées de vie définies dans ehcache.xml
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "contrat")
 public class Contrat {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Séquence avec optimiseur "pooled" : permet le batching JDBC des insertions.
+    // Créée et placée après le plus grand id existant par la migration V1, jamais par Hibernate
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contrat_seq")
+    @SequenceGenerator(name = "contrat_seq", sequenceName = "contrat_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -26,6 +38,20 @@ public class Contrat {
     private Double montantCouverture;
     private Long clientId;  // Référence au client
 
+    // Renseignée à chaque insertion/mise à jour, sert aux exports incrémentaux
+    @UpdateTimestamp
+    private LocalDateTime dateModification;
+
+    // Agrégats des sinistres, tenus à jour à chaque déclaration
+    @Column(nullable = false)
+    private Integer nombreSinistres = 0;
+    @Column(nullable = false)
+    private Double totalReclame = 0.0;
+    @Column(nullable = false)
+    private Double totalRembourse = 0.0;
+
+    // Ids des sinistres en cache, les sinistres eux-mêmes dans la région "sinistre"
     @OneToMany(mappedBy = "contrat", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "contrat-sinistres")
     private List<Sinistre> sinistres;
 }
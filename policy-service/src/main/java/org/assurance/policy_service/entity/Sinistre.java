@@ -2,8 +2,12 @@ package org.assurance.policy_service.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
@@ -11,9 +15,16 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
+// Index de la recherche des sinistres d'un contrat (findByContratId, chargement des collections)
+@Table(indexes = @Index(name = "idx_sinistre_contrat_id", columnList = "contrat_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sinistre")
 public class Sinistre {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Séquence avec optimiseur "pooled" : permet le batching JDBC des insertions.
+    // Créée et placée après le plus grand id existant par la migration V1, jamais par Hibernate
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sinistre_seq")
+    @SequenceGenerator(name = "sinistre_seq", sequenceName = "sinistre_seq", allocationSize = 50)
     private Long id;
 
     private LocalDate date;
@@ -21,6 +32,9 @@ public class Sinistre {
     private Double montantRéclamé;
     private Double montantRemboursé;
 
+    @UpdateTimestamp
+    private LocalDateTime dateModification;
+
     @ManyToOne
     @JoinColumn(name = "contrat_id")
     private Contrat contrat;
@@ -4,10 +4,18 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "customer-service")
+import java.util.Set;
+
+@FeignClient(name = "customer-service", fallbackFactory = CustomerClientFallbackFactory.class)
 public interface CustomerClient {
 
     @GetMapping("/customers/{id}/exists")
     ResponseEntity<Boolean> checkCustomerExists(@PathVariable("id") Long id);
+
+    // Renvoie le sous-ensemble des ids qui correspondent à un client existant
+    @PostMapping("/customers/exists")
+    ResponseEntity<Set<Long>> findExistingCustomers(@RequestBody Set<Long> ids);
 }
@@ -0,0 +1,40 @@
+package org.assurance.policy_service.feign;
+
+import feign.FeignException;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Traduit les échecs du disjoncteur (circuit ouvert, bulkhead plein, délai dépassé, erreur 5xx)
+ * en {@link CustomerServiceUnavailableException}. La politique de repli est appliquée par
+ * {@link CustomerExistsCollapser}, qui seul sait quels clients ont déjà été vérifiés.
+ */
+@Component
+public class CustomerClientFallbackFactory implements FallbackFactory<CustomerClient> {
+
+    @Override
+    public CustomerClient create(Throwable cause) {
+        return new CustomerClient() {
+            @Override
+            public ResponseEntity<Boolean> checkCustomerExists(Long id) {
+                throw unavailable(cause);
+            }
+
+            @Override
+            public ResponseEntity<Set<Long>> findExistingCustomers(Set<Long> ids) {
+                throw unavailable(cause);
+            }
+        };
+    }
+
+    private static RuntimeException unavailable(Throwable cause) {
+        // Une erreur 4xx est une réponse de customer-service, pas une indisponibilité
+        if (cause instanceof FeignException feignException && feignException.status() >= 400 && feignException.status() < 500) {
+            return feignException;
+        }
+        return new CustomerServiceUnavailableException(cause);
+    }
+}
@@ -0,0 +1,31 @@
+package org.assurance.policy_service.feign;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "customer-client")
+public class CustomerClientProperties {
+    private CustomerFallbackPolicy fallback = CustomerFallbackPolicy.LAST_KNOWN;
+
+    // Mémoire des dernières réponses, indépendante du cache d'existence
+    private long lastKnownMaximumSize = 100_000;
+    private Duration lastKnownTtl = Duration.ofHours(24);
+
+    // Appels simultanés vers customer-service au-delà desquels on échoue immédiatement
+    private int maxConcurrentCalls = 20;
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Data
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private Duration slowCallDuration = Duration.ofSeconds(1);
+        private float slowCallRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,16 @@
+package org.assurance.policy_service.feign;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "customer-collapser")
+public class CustomerCollapserProperties {
+    // Fenêtre pendant laquelle les vérifications concurrentes sont regroupées
+    private Duration window = Duration.ofMillis(5);
+
+    // Taille maximale d'un lot, ramenée à 1000 si plus grande (limite de customer-service)
+    private int maxBatchSize = 500;
+}
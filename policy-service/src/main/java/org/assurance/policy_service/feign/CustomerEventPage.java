@@ -0,0 +1,18 @@
+package org.assurance.policy_service.feign;
+
+import java.util.List;
+
+/**
+ * Page de l'outbox de customer-service. {@code nextCursor} s'arrête avant les événements
+ * trop récents pour être sûrs : ceux-ci sont renvoyés au prochain appel.
+ */
+public record CustomerEventPage(List<Event> events, long nextCursor) {
+
+    public record Event(long id, long customerId, Type type) {
+    }
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,21 @@
+package org.assurance.policy_service.feign;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+// Sans repli : une synchronisation en échec est simplement retentée au tour suivant
+@FeignClient(name = "customer-service", contextId = "customerEvents")
+public interface CustomerEventsClient {
+
+    @GetMapping("/customers/events")
+    CustomerEventPage findEvents(@RequestParam("after") long after, @RequestParam("size") int size);
+
+    // Position à partir de laquelle lire les événements après un instantané pris maintenant
+    @GetMapping("/customers/events/cursor")
+    long findSettledCursor();
+
+    @GetMapping("/customers/ids")
+    CustomerIdPage findCustomerIds(@RequestParam(value = "after", required = false) Long after,
+                                   @RequestParam("size") int size);
+}
@@ -0,0 +1,160 @@
+package org.assurance.policy_service.feign;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regroupe les vérifications d'existence concurrentes arrivant dans une même fenêtre
+ * en un seul appel {@link CustomerClient#findExistingCustomers(Set)}.
+ * Les appels groupés s'exécutent sur l'exécuteur applicatif de Spring Boot, qui utilise
+ * des threads virtuels quand spring.threads.virtual.enabled est activé.
+ * Si customer-service est indisponible, les vérifications échouent avec
+ * {@link CustomerServiceUnavailableException} : la réponse de repli est donnée par l'appelant,
+ * hors de tout cache. Chaque réponse obtenue est transmise à {@link CustomerFallback}.
+ * L'appel groupé est rattaché à la trace de la requête qui a ouvert la fenêtre.
+ * Aucun lot ne dépasse {@link #TAILLE_MAX_CUSTOMER_SERVICE} ids, au-delà desquels
+ * customer-service répond 400, quelle que soit la taille configurée.
+ */
+@Component
+public class CustomerExistsCollapser implements DisposableBean {
+
+    // Limite de POST /customers/exists côté customer-service
+    public static final int TAILLE_MAX_CUSTOMER_SERVICE = 1000;
+
+    private final CustomerClient customerClient;
+    private final CustomerCollapserProperties properties;
+    private final CustomerFallback customerFallback;
+    private final TaskExecutor executor;
+    private final ScheduledExecutorService scheduler;
+    private final int tailleLot;
+
+    private final ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<Boolean>> pending = new HashMap<>();
+    private ContextSnapshot windowContext;
+
+    public CustomerExistsCollapser(CustomerClient customerClient,
+                                   CustomerCollapserProperties properties,
+                                   CustomerFallback customerFallback,
+                                   @Qualifier("applicationTaskExecutor") TaskExecutor executor) {
+        this.customerClient = customerClient;
+        this.properties = properties;
+        this.customerFallback = customerFallback;
+        this.executor = executor;
+        this.tailleLot = Math.min(properties.getMaxBatchSize(), TAILLE_MAX_CUSTOMER_SERVICE);
+        // Ne sert qu'à déclencher la fin de fenêtre : l'appel distant part sur l'exécuteur
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-collapser");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean exists(Long clientId) {
+        try {
+            return submit(clientId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Vérification groupée explicite (import en masse) : un appel par tranche d'au plus tailleLot ids
+    public Map<Long, Boolean> existsAll(Set<? extends Long> clientIds) {
+        Map<Long, Boolean> result = new HashMap<>();
+        List<Long> ids = new ArrayList<>(clientIds);
+        for (int from = 0; from < ids.size(); from += tailleLot) {
+            Set<Long> chunk = new HashSet<>(ids.subList(from, Math.min(ids.size(), from + tailleLot)));
+            result.putAll(call(chunk));
+        }
+        return result;
+    }
+
+    public CompletableFuture<Boolean> submit(Long clientId) {
+        CompletableFuture<Boolean> future;
+        Map<Long, CompletableFuture<Boolean>> fullBatch = null;
+        ContextSnapshot context = null;
+        synchronized (lock) {
+            future = pending.get(clientId);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            boolean firstOfWindow = pending.isEmpty();
+            if (firstOfWindow) {
+                windowContext = contextSnapshotFactory.captureAll();
+            }
+            pending.put(clientId, future);
+            if (pending.size() >= tailleLot) {
+                context = windowContext;
+                fullBatch = drain();
+            } else if (firstOfWindow) {
+                scheduler.schedule(this::flush, properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            Map<Long, CompletableFuture<Boolean>> batch = fullBatch;
+            executor.execute(context.wrap(() -> execute(batch)));
+        }
+        return future;
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<Boolean>> batch;
+        ContextSnapshot context;
+        synchronized (lock) {
+            context = windowContext;
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            executor.execute(context.wrap(() -> execute(batch)));
+        }
+    }
+
+    private Map<Long, CompletableFuture<Boolean>> drain() {
+        Map<Long, CompletableFuture<Boolean>> batch = pending;
+        pending = new HashMap<>();
+        windowContext = null;
+        return batch;
+    }
+
+    private void execute(Map<Long, CompletableFuture<Boolean>> batch) {
+        try {
+            Map<Long, Boolean> answers = call(batch.keySet());
+            batch.forEach((id, future) -> future.complete(answers.get(id)));
+        } catch (Exception e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private Map<Long, Boolean> call(Set<Long> clientIds) {
+        Set<Long> existing = customerClient.findExistingCustomers(new HashSet<>(clientIds)).getBody();
+        Map<Long, Boolean> answers = new HashMap<>();
+        clientIds.forEach(id -> answers.put(id, existing != null && existing.contains(id)));
+        customerFallback.remember(answers);
+        return answers;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
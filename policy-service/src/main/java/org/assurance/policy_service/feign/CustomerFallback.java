@@ -0,0 +1,59 @@
+package org.assurance.policy_service.feign;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Garde la dernière réponse de customer-service pour chaque client et applique la
+ * {@link CustomerFallbackPolicy} configurée quand le service ne répond plus.
+ */
+@Component
+public class CustomerFallback {
+
+    private final CustomerFallbackPolicy policy;
+    private final Cache<Long, Boolean> lastKnown;
+    private final MeterRegistry meterRegistry;
+
+    public CustomerFallback(CustomerClientProperties properties, MeterRegistry meterRegistry) {
+        this.policy = properties.getFallback();
+        this.meterRegistry = meterRegistry;
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(properties.getLastKnownMaximumSize())
+                .expireAfterWrite(properties.getLastKnownTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lastKnown, "customerLastKnown");
+    }
+
+    public void remember(Map<Long, Boolean> answers) {
+        lastKnown.putAll(answers);
+    }
+
+    /**
+     * Réponses de repli pour les clients demandés ; les clients absents du résultat
+     * doivent être refusés avec l'exception d'origine.
+     */
+    public Map<Long, Boolean> resolve(Collection<Long> clientIds) {
+        Map<Long, Boolean> answers = switch (policy) {
+            case LAST_KNOWN -> lastKnown.getAllPresent(clientIds);
+            case REJECT -> Map.of();
+            case ASSUME_EXISTS -> {
+                Map<Long, Boolean> assumed = new HashMap<>();
+                clientIds.forEach(id -> assumed.put(id, true));
+                yield assumed;
+            }
+        };
+        meterRegistry.counter("customer.fallback", "policy", policy.name(), "outcome", "answered")
+                .increment(answers.size());
+        meterRegistry.counter("customer.fallback", "policy", policy.name(), "outcome", "rejected")
+                .increment(clientIds.size() - answers.size());
+        return answers;
+    }
+}
@@ -0,0 +1,14 @@
+package org.assurance.policy_service.feign;
+
+/**
+ * Réponse donnée aux vérifications d'existence quand customer-service est indisponible
+ * (circuit ouvert, bulkhead plein, délai dépassé).
+ */
+public enum CustomerFallbackPolicy {
+    // Dernière réponse connue du client ; refus si le client n'a jamais été vérifié
+    LAST_KNOWN,
+    // Refus immédiat de toute vérification
+    REJECT,
+    // Client considéré comme existant : la disponibilité prime sur la vérification
+    ASSUME_EXISTS
+}
@@ -0,0 +1,7 @@
+package org.assurance.policy_service.feign;
+
+import java.util.List;
+
+// nextCursor vaut null sur la dernière page
+public record CustomerIdPage(List<Long> ids, Long nextCursor) {
+}
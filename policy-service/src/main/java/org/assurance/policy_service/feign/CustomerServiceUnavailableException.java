@@ -0,0 +1,12 @@
+package org.assurance.policy_service.feign;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class CustomerServiceUnavailableException extends RuntimeException {
+
+    public CustomerServiceUnavailableException(Throwable cause) {
+        super("Service client indisponible, vérification impossible", cause);
+    }
+}
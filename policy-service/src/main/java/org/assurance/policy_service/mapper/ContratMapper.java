@@ -2,6 +2,7 @@ package org.assurance.policy_service.mapper;
 
 import org.assurance.policy_service.dto.ContratRequestDTO;
 import org.assurance.policy_service.dto.ContratResponseDTO;
+import org.assurance.policy_service.dto.ContratTotauxDTO;
 import org.assurance.policy_service.entity.Contrat;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -15,5 +16,23 @@ public interface ContratMapper {
     @Mapping(target = "id", ignore = true)
     Contrat toEntity(ContratRequestDTO dto);
 
+    @Mapping(target = "couvertureRestante", expression = "java(couvertureRestante(contrat))")
     ContratResponseDTO toDTO(Contrat contrat);
+
+    // Pour les traitements qui chargent les sinistres séparément
+    @Mapping(target = "sinistres", ignore = true)
+    @Mapping(target = "couvertureRestante", expression = "java(couvertureRestante(contrat))")
+    ContratResponseDTO toDTOSansSinistres(Contrat contrat);
+
+    @Mapping(target = "contratId", source = "id")
+    @Mapping(target = "couvertureRestante", expression = "java(couvertureRestante(contrat))")
+    ContratTotauxDTO toTotauxDTO(Contrat contrat);
+
+    default Double couvertureRestante(Contrat contrat) {
+        if (contrat.getMontantCouverture() == null) {
+            return null;
+        }
+        double rembourse = contrat.getTotalRembourse() == null ? 0.0 : contrat.getTotalRembourse();
+        return contrat.getMontantCouverture() - rembourse;
+    }
 }
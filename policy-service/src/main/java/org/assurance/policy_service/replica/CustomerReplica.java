@@ -0,0 +1,113 @@
+package org.assurance.policy_service.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assurance.policy_service.feign.CustomerEventPage;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Copie locale des ids des clients existants, tenue à jour par {@link CustomerReplicaSynchronizer}.
+ * Les ids sont conservés dans un bitmap compressé : pour des ids issus d'une séquence,
+ * quelques octets par client suffisent.
+ * Tant que la première synchronisation n'a pas abouti, la réplique n'est pas prête.
+ */
+@Component
+public class CustomerReplica {
+
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+    private Roaring64Bitmap ids = new Roaring64Bitmap();
+    private long curseur;
+    private volatile boolean prete;
+
+    public CustomerReplica(MeterRegistry meterRegistry) {
+        Gauge.builder("customer.replica.size", this, CustomerReplica::taille)
+                .description("Nombre de clients connus de la réplique locale")
+                .register(meterRegistry);
+        Gauge.builder("customer.replica.bytes", this, CustomerReplica::tailleEnOctets)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean estPrete() {
+        return prete;
+    }
+
+    public boolean contient(long clientId) {
+        verrou.readLock().lock();
+        try {
+            return ids.contains(clientId);
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    // Position dans l'outbox de customer-service
+    public long curseur() {
+        verrou.readLock().lock();
+        try {
+            return curseur;
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    // Remplace le contenu par un instantané complet, pris après la lecture de "curseur"
+    public void remplacer(Roaring64Bitmap nouveauxIds, long curseur) {
+        verrou.writeLock().lock();
+        try {
+            this.ids = nouveauxIds;
+            this.curseur = curseur;
+            this.prete = true;
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    // Les événements peuvent être rejoués : appliqués dans l'ordre, le résultat est le même
+    public void appliquer(List<CustomerEventPage.Event> evenements, long curseurSuivant) {
+        verrou.writeLock().lock();
+        try {
+            for (CustomerEventPage.Event evenement : evenements) {
+                switch (evenement.type()) {
+                    case CREATED -> ids.addLong(evenement.customerId());
+                    case DELETED -> ids.removeLong(evenement.customerId());
+                }
+            }
+            curseur = Math.max(curseur, curseurSuivant);
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    // Suppression signalée directement par customer-service, avant la lecture de l'outbox
+    public void retirer(long clientId) {
+        verrou.writeLock().lock();
+        try {
+            ids.removeLong(clientId);
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    public long taille() {
+        verrou.readLock().lock();
+        try {
+            return ids.getLongCardinality();
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    private long tailleEnOctets() {
+        verrou.readLock().lock();
+        try {
+            return ids.getLongSizeInBytes();
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.assurance.policy_service.replica;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "customer-replica")
+public class CustomerReplicaProperties {
+    // Désactivée, toutes les vérifications passent par customer-service
+    private boolean enabled = true;
+
+    // Délai entre deux lectures de l'outbox de customer-service
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    // Nombre d'événements lus par appel
+    private int eventBatchSize = 500;
+
+    // Nombre d'ids par page lors d'une resynchronisation complète
+    private int idPageSize = 10_000;
+
+    // Resynchronisation complète périodique, en plus de celle du démarrage ; doit rester
+    // inférieure à la rétention de l'outbox
+    private Duration resyncInterval = Duration.ofHours(6);
+}
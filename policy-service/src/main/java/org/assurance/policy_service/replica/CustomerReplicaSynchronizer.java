@@ -0,0 +1,88 @@
+package org.assurance.policy_service.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.assurance.policy_service.feign.CustomerEventPage;
+import org.assurance.policy_service.feign.CustomerEventsClient;
+import org.assurance.policy_service.feign.CustomerIdPage;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Alimente la {@link CustomerReplica} : instantané complet des ids au démarrage (puis
+ * périodiquement), et entre deux instantanés lecture de l'outbox de customer-service.
+ * Un échec est retenté au tour suivant ; la réplique garde son dernier état.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "customer-replica", name = "enabled", matchIfMissing = true)
+public class CustomerReplicaSynchronizer {
+
+    private final CustomerEventsClient customerEventsClient;
+    private final CustomerReplica customerReplica;
+    private final CustomerReplicaProperties properties;
+    private long derniereResynchronisation;
+    private boolean enEchec;
+
+    public CustomerReplicaSynchronizer(CustomerEventsClient customerEventsClient,
+                                       CustomerReplica customerReplica,
+                                       CustomerReplicaProperties properties) {
+        this.customerEventsClient = customerEventsClient;
+        this.customerReplica = customerReplica;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${customer-replica.poll-interval:1s}")
+    public void synchroniser() {
+        try {
+            if (!customerReplica.estPrete()
+                    || System.nanoTime() - derniereResynchronisation > properties.getResyncInterval().toNanos()) {
+                resynchroniser();
+            }
+            rattraper();
+            if (enEchec) {
+                enEchec = false;
+                log.info("Synchronisation de la réplique des clients rétablie");
+            }
+        } catch (RuntimeException e) {
+            // Un avertissement par panne, pas un par tour
+            if (!enEchec) {
+                enEchec = true;
+                log.warn("Synchronisation de la réplique des clients impossible : {}", e.getMessage());
+            } else {
+                log.debug("Synchronisation de la réplique des clients impossible : {}", e.getMessage());
+            }
+        }
+    }
+
+    private void resynchroniser() {
+        long debut = System.nanoTime();
+        // Lu avant l'instantané : les événements survenus pendant la copie seront rejoués
+        long curseur = customerEventsClient.findSettledCursor();
+        Roaring64Bitmap ids = new Roaring64Bitmap();
+        Long apres = null;
+        do {
+            CustomerIdPage page = customerEventsClient.findCustomerIds(apres, properties.getIdPageSize());
+            page.ids().forEach(ids::addLong);
+            apres = page.nextCursor();
+        } while (apres != null);
+        ids.runOptimize();
+        long clients = ids.getLongCardinality();
+        customerReplica.remplacer(ids, curseur);
+        derniereResynchronisation = System.nanoTime();
+        log.info("Réplique des clients resynchronisée : {} clients en {} ms",
+                clients, (derniereResynchronisation - debut) / 1_000_000);
+    }
+
+    private void rattraper() {
+        int taille = properties.getEventBatchSize();
+        CustomerEventPage page;
+        long curseur;
+        do {
+            curseur = customerReplica.curseur();
+            page = customerEventsClient.findEvents(curseur, taille);
+            customerReplica.appliquer(page.events(), page.nextCursor());
+        } while (page.events().size() == taille && page.nextCursor() > curseur);
+    }
+}
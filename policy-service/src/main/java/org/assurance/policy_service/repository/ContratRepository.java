@@ -1,12 +1,69 @@
 package org.assurance.policy_service.repository;
 
+import jakarta.persistence.QueryHint;
 import org.assurance.policy_service.entity.Contrat;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContratRepository extends JpaRepository<Contrat, Long> {
     List<Contrat> findByClientId(Long clientId);
+
+    // Charge les contrats et leurs sinistres en une seule requête (évite le N+1 du mapping).
+    // Résultat en cache de requêtes, invalidé par toute écriture sur contrat ou sinistre
+    @EntityGraph(attributePaths = "sinistres")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "contrat-requetes")
+    })
+    List<Contrat> findWithSinistresByClientId(Long clientId);
+
+    @EntityGraph(attributePaths = "sinistres")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "contrat-requetes")
+    })
+    Optional<Contrat> findWithSinistresById(Long id);
+
+    // Curseurs côté serveur pour l'export : à consommer dans une transaction puis fermer.
+    // Sur MySQL, la taille de lot n'est respectée qu'avec useCursorFetch=true (application.yml)
+    // Un export parcourt toute la table : il ne doit pas remplir le cache de second niveau
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select c from Contrat c order by c.id")
+    Stream<Contrat> streamAllByOrderById();
+
+    // Contrats modifiés depuis "since", ou dont un sinistre l'a été
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select c from Contrat c where c.dateModification >= :since"
+            + " or exists (select s.id from Sinistre s where s.contrat = c and s.dateModification >= :since)"
+            + " order by c.id")
+    Stream<Contrat> streamModifiedSince(@Param("since") LocalDateTime since);
+
+    // Recalcul complet des agrégats à partir des sinistres (reprise de données) ;
+    // requête de masse : Hibernate vide en conséquence la région "contrat" du cache
+    @Modifying
+    @Query("update Contrat c set"
+            + " c.nombreSinistres = (select count(s) from Sinistre s where s.contrat = c),"
+            + " c.totalReclame = (select coalesce(sum(s.montantRéclamé), 0) from Sinistre s where s.contrat = c),"
+            + " c.totalRembourse = (select coalesce(sum(s.montantRemboursé), 0) from Sinistre s where s.contrat = c)")
+    int recalculerTotaux();
 }
@@ -1,13 +1,38 @@
 package org.assurance.policy_service.repository;
 
-import org.assurance.policy_service.dto.SinistreResponseDTO;
+import jakarta.persistence.QueryHint;
 import org.assurance.policy_service.entity.Sinistre;
+import org.assurance.policy_service.search.SinistreDocument;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface SinistreRepository extends JpaRepository<Sinistre, Long> {
-    List<Sinistre> findByContratId(Long contratId);
+    // Requêtes explicites : la requête dérivée joint contrat et filtre sur contrat.id,
+    // ce qui empêche l'usage de l'index sinistre(contrat_id)
+    @Query("select s from Sinistre s where s.contrat.id = :contratId")
+    List<Sinistre> findByContratId(@Param("contratId") Long contratId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select s from Sinistre s where s.contrat.id in :contratIds")
+    List<Sinistre> findByContratIdIn(@Param("contratIds") Collection<Long> contratIds);
+
+    @EntityGraph(attributePaths = "contrat")
+    List<Sinistre> findWithContratByIdIn(Collection<Long> ids);
+
+    // Projection pour l'index de recherche : aucune entité chargée, curseur à consommer dans une transaction
+    // (lots de 1000 sur MySQL grâce à useCursorFetch=true, cf. application.yml)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new org.assurance.policy_service.search.SinistreDocument(s.id, s.description, s.date, c.id, c.type)"
+            + " from Sinistre s join s.contrat c")
+    Stream<SinistreDocument> streamDocuments();
 }
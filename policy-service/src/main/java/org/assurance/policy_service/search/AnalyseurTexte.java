@@ -0,0 +1,53 @@
+package org.assurance.policy_service.search;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Découpe un texte français en termes d'index : minuscules, accents retirés, ligatures dépliées,
+ * mots vides ignorés et pluriels simples ramenés au singulier ("dégâts" et "degat" donnent "degat").
+ */
+@Component
+public class AnalyseurTexte {
+
+    private static final Pattern DIACRITIQUES = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATEURS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> MOTS_VIDES = Set.of(
+            "a", "au", "aux", "avec", "ce", "ces", "cet", "cette", "d", "dans", "de", "des", "du",
+            "elle", "elles", "en", "est", "et", "il", "ils", "j", "je", "l", "la", "le", "les", "leur",
+            "leurs", "lui", "m", "ma", "mais", "me", "mes", "mon", "n", "ne", "nous", "on", "ou", "par",
+            "pas", "pour", "qu", "que", "qui", "s", "sa", "sans", "se", "ses", "son", "sont", "sur",
+            "t", "un", "une", "vous", "y");
+
+    public List<String> termes(String texte) {
+        if (texte == null || texte.isBlank()) {
+            return List.of();
+        }
+        String normalise = DIACRITIQUES.matcher(Normalizer.normalize(texte, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.FRENCH)
+                .replace("œ", "oe")
+                .replace("æ", "ae");
+
+        List<String> termes = new ArrayList<>();
+        for (String mot : SEPARATEURS.split(normalise)) {
+            if (!mot.isEmpty() && !MOTS_VIDES.contains(mot)) {
+                termes.add(singulier(mot));
+            }
+        }
+        return termes;
+    }
+
+    private static String singulier(String mot) {
+        if (mot.length() > 3 && (mot.endsWith("s") || mot.endsWith("x")) && !Character.isDigit(mot.charAt(0))) {
+            return mot.substring(0, mot.length() - 1);
+        }
+        return mot;
+    }
+}
@@ -0,0 +1,12 @@
+package org.assurance.policy_service.search;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class IndexNonPretException extends RuntimeException {
+
+    public IndexNonPretException() {
+        super("Index de recherche des sinistres en cours de construction");
+    }
+}
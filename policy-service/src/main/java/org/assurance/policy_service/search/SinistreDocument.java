@@ -0,0 +1,18 @@
+package org.assurance.policy_service.search;
+
+import org.assurance.policy_service.entity.Sinistre;
+import org.assurance.policy_service.entity.enums.TypeContrat;
+
+import java.time.LocalDate;
+
+/**
+ * Champs d'un sinistre utiles à la recherche. Sert aussi de projection JPQL pour
+ * reconstruire l'index sans charger les entités.
+ */
+public record SinistreDocument(Long id, String description, LocalDate date, Long contratId, TypeContrat type) {
+
+    public static SinistreDocument de(Sinistre sinistre) {
+        return new SinistreDocument(sinistre.getId(), sinistre.getDescription(), sinistre.getDate(),
+                sinistre.getContrat().getId(), sinistre.getContrat().getType());
+    }
+}
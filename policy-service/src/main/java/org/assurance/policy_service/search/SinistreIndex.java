@@ -0,0 +1,177 @@
+package org.assurance.policy_service.search;
+
+import org.assurance.policy_service.entity.enums.TypeContrat;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index inversé en mémoire sur la description des sinistres, classé par BM25.
+ * Les recherches partagent un verrou de lecture ; l'analyse du texte se fait hors verrou
+ * et seule l'insertion dans les listes de postings prend le verrou d'écriture.
+ */
+@Component
+public class SinistreIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<Resultat> PAR_DATE = Comparator
+            .comparing((Resultat resultat) -> resultat.document().date(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(resultat -> resultat.document().id(), Comparator.reverseOrder());
+
+    private final AnalyseurTexte analyseur;
+    private final ReadWriteLock verrou = new ReentrantReadWriteLock();
+    private final Map<Long, Entree> entrees = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private long totalTermes;
+    private volatile boolean pret;
+
+    public SinistreIndex(AnalyseurTexte analyseur) {
+        this.analyseur = analyseur;
+    }
+
+    public void indexer(Collection<SinistreDocument> documents) {
+        List<Entree> analyses = documents.stream().map(this::analyser).toList();
+        verrou.writeLock().lock();
+        try {
+            analyses.forEach(this::ajouter);
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSinistresEnregistres(SinistresEnregistresEvent event) {
+        indexer(event.documents());
+    }
+
+    public void marquerPret() {
+        pret = true;
+    }
+
+    public int taille() {
+        verrou.readLock().lock();
+        try {
+            return entrees.size();
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sinistres filtrés par période et type de contrat, classés par pertinence BM25 sur {@code requete},
+     * ou du plus récent au plus ancien quand la requête ne contient aucun terme.
+     */
+    public Page rechercher(String requete, LocalDate du, LocalDate au, TypeContrat type, int page, int taille) {
+        if (!pret) {
+            throw new IndexNonPretException();
+        }
+        List<String> termes = List.copyOf(new LinkedHashSet<>(analyseur.termes(requete)));
+
+        verrou.readLock().lock();
+        try {
+            List<Resultat> resultats = termes.isEmpty()
+                    ? filtrer(du, au, type)
+                    : classer(termes, du, au, type);
+            // Calcul en long : page * taille dépasse Integer.MAX_VALUE pour une page lointaine
+            int debut = (int) Math.min(resultats.size(), (long) page * taille);
+            int fin = (int) Math.min(resultats.size(), (long) debut + taille);
+            return new Page(List.copyOf(resultats.subList(debut, fin)), resultats.size());
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    private List<Resultat> classer(List<String> termes, LocalDate du, LocalDate au, TypeContrat type) {
+        int nombreDocuments = entrees.size();
+        double longueurMoyenne = nombreDocuments == 0 ? 0 : (double) totalTermes / nombreDocuments;
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (String terme : termes) {
+            Map<Long, Integer> frequences = postings.get(terme);
+            if (frequences == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (nombreDocuments - frequences.size() + 0.5) / (frequences.size() + 0.5));
+            frequences.forEach((id, frequence) -> {
+                Entree entree = entrees.get(id);
+                if (retenu(entree.document(), du, au, type)) {
+                    double normalisation = K1 * (1 - B + B * entree.longueur() / longueurMoyenne);
+                    scores.merge(id, idf * frequence * (K1 + 1) / (frequence + normalisation), Double::sum);
+                }
+            });
+        }
+
+        List<Resultat> resultats = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> resultats.add(new Resultat(entrees.get(id).document(), score)));
+        resultats.sort(Comparator.comparingDouble(Resultat::score).reversed().thenComparing(PAR_DATE));
+        return resultats;
+    }
+
+    private List<Resultat> filtrer(LocalDate du, LocalDate au, TypeContrat type) {
+        List<Resultat> resultats = new ArrayList<>();
+        for (Entree entree : entrees.values()) {
+            if (retenu(entree.document(), du, au, type)) {
+                resultats.add(new Resultat(entree.document(), 0));
+            }
+        }
+        resultats.sort(PAR_DATE);
+        return resultats;
+    }
+
+    private static boolean retenu(SinistreDocument document, LocalDate du, LocalDate au, TypeContrat type) {
+        if (type != null && type != document.type()) {
+            return false;
+        }
+        if (du == null && au == null) {
+            return true;
+        }
+        LocalDate date = document.date();
+        return date != null && (du == null || !date.isBefore(du)) && (au == null || !date.isAfter(au));
+    }
+
+    private Entree analyser(SinistreDocument document) {
+        Map<String, Integer> frequences = new HashMap<>();
+        List<String> termes = analyseur.termes(document.description());
+        termes.forEach(terme -> frequences.merge(terme, 1, Integer::sum));
+        return new Entree(document, frequences, termes.size());
+    }
+
+    // Remplace l'entrée existante : réindexer un sinistre est sans effet de bord
+    private void ajouter(Entree entree) {
+        Entree precedente = entrees.put(entree.document().id(), entree);
+        if (precedente != null) {
+            totalTermes -= precedente.longueur();
+            precedente.frequences().keySet().forEach(terme -> {
+                Map<Long, Integer> frequences = postings.get(terme);
+                frequences.remove(entree.document().id());
+                if (frequences.isEmpty()) {
+                    postings.remove(terme);
+                }
+            });
+        }
+        totalTermes += entree.longueur();
+        entree.frequences().forEach((terme, frequence) ->
+                postings.computeIfAbsent(terme, t -> new HashMap<>()).put(entree.document().id(), frequence));
+    }
+
+    private record Entree(SinistreDocument document, Map<String, Integer> frequences, int longueur) {
+    }
+
+    public record Resultat(SinistreDocument document, double score) {
+    }
+
+    public record Page(List<Resultat> resultats, int total) {
+    }
+}
@@ -0,0 +1,68 @@
+package org.assurance.policy_service.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.assurance.policy_service.repository.SinistreRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Construit l'index des sinistres au démarrage en parcourant la table par curseur.
+ * Les sinistres déclarés pendant la construction sont indexés par l'événement de commit ;
+ * indexer deux fois le même sinistre est sans effet.
+ * <p>
+ * Un échec de construction ne bloque pas le démarrage du service : il est journalisé et
+ * l'index reste "non prêt", la recherche répondant alors 503.
+ */
+@Slf4j
+@Component
+public class SinistreIndexLoader implements ApplicationRunner {
+
+    private static final int TAILLE_LOT = 1000;
+
+    private final SinistreRepository sinistreRepository;
+    private final SinistreIndex sinistreIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    public SinistreIndexLoader(SinistreRepository sinistreRepository, SinistreIndex sinistreIndex,
+                               PlatformTransactionManager transactionManager) {
+        this.sinistreRepository = sinistreRepository;
+        this.sinistreIndex = sinistreIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long debut = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> charger());
+        } catch (RuntimeException e) {
+            log.error("Construction de l'index des sinistres impossible, recherche indisponible", e);
+            return;
+        }
+        sinistreIndex.marquerPret();
+        log.info("Index des sinistres construit : {} sinistres en {} ms",
+                sinistreIndex.taille(), (System.nanoTime() - debut) / 1_000_000);
+    }
+
+    private void charger() {
+        try (Stream<SinistreDocument> documents = sinistreRepository.streamDocuments()) {
+            List<SinistreDocument> lot = new ArrayList<>(TAILLE_LOT);
+            documents.forEach(document -> {
+                lot.add(document);
+                if (lot.size() == TAILLE_LOT) {
+                    sinistreIndex.indexer(lot);
+                    lot.clear();
+                }
+            });
+            sinistreIndex.indexer(lot);
+        }
+    }
+}
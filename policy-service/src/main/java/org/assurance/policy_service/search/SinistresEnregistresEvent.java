@@ -0,0 +1,7 @@
+package org.assurance.policy_service.search;
+
+import java.util.List;
+
+// Publié dans la transaction d'enregistrement ; l'index n'est mis à jour qu'après le commit
+public record SinistresEnregistresEvent(List<SinistreDocument> documents) {
+}
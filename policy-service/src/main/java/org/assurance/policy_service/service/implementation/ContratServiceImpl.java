@@ -1,14 +1,17 @@
 package org.assurance.policy_service.service.implementation;
 
 import lombok.AllArgsConstructor;
+import org.assurance.policy_service.cache.CustomerExistenceCache;
+import org.assurance.policy_service.concurrent.FanOutExecutor;
 import org.assurance.policy_service.dto.ContratRequestDTO;
 import org.assurance.policy_service.dto.ContratResponseDTO;
+import org.assurance.policy_service.dto.ContratTotauxDTO;
 import org.assurance.policy_service.entity.Contrat;
-import org.assurance.policy_service.feign.CustomerClient;
 import org.assurance.policy_service.mapper.ContratMapper;
 import org.assurance.policy_service.repository.ContratRepository;
 import org.assurance.policy_service.service.interfaces.ContratService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.List;
@@ -18,16 +21,17 @@ import java.util.List;
 public class ContratServiceImpl implements ContratService {
     private final ContratRepository contratRepository;
     private final ContratMapper contratMapper;
-    private final CustomerClient customerClient;
+    private final CustomerExistenceCache customerExistenceCache;
+    private final FanOutExecutor fanOutExecutor;
 
 
     @Override
     public ContratResponseDTO creerContrat(ContratRequestDTO contratRequestDto) {
-        // Vérifier si le client existe via FeignClient
+        // Vérifier si le client existe (cache local devant le FeignClient)
         boolean clientExists;
 
         try {
-            clientExists = Boolean.TRUE.equals(customerClient.checkCustomerExists(contratRequestDto.getClientId()).getBody());
+            clientExists = customerExistenceCache.exists(contratRequestDto.getClientId());
         } catch (HttpClientErrorException.NotFound e) {
             throw new RuntimeException("Client non trouvé !");
         }
@@ -44,11 +48,11 @@ public class ContratServiceImpl implements ContratService {
 
     @Override
     public ContratResponseDTO getContratById(Long id) {
-        Contrat contrat = contratRepository.findById(id)
+        Contrat contrat = contratRepository.findWithSinistresById(id)
                 .orElseThrow(() -> new RuntimeException("Contrat non trouvé !"));
 
         // Vérifier si le client du contrat existe encore
-        boolean clientExists = Boolean.TRUE.equals(customerClient.checkCustomerExists(contrat.getClientId()).getBody());
+        boolean clientExists = customerExistenceCache.exists(contrat.getClientId());
         if (!clientExists) {
             throw new RuntimeException("Le client associé à ce contrat n'existe plus !");
         }
@@ -57,12 +61,31 @@ public class ContratServiceImpl implements ContratService {
 
     @Override
     public List<ContratResponseDTO> getContratsByClientId(Long clientId) {
-        boolean clientExists = Boolean.TRUE.equals(customerClient.checkCustomerExists(clientId).getBody());
-        if (!clientExists) {
-            throw new RuntimeException("Client non trouvé !");
-        }
+        // Vérification du client et lecture des contrats sont indépendantes : lancées en parallèle
+        return fanOutExecutor.both(
+                () -> customerExistenceCache.exists(clientId),
+                () -> contratRepository.findWithSinistresByClientId(clientId).stream()
+                        .map(contratMapper::toDTO)
+                        .toList(),
+                (clientExists, contrats) -> {
+                    if (!clientExists) {
+                        throw new RuntimeException("Client non trouvé !");
+                    }
+                    return contrats;
+                });
+    }
 
-        List<Contrat> contrats = contratRepository.findByClientId(clientId); // Correction ici
-        return contrats.stream().map(contratMapper::toDTO).toList(); // Utilisation correcte du mapping
+    @Override
+    public ContratTotauxDTO getTotauxContrat(Long id) {
+        // Lecture des seuls agrégats du contrat : les sinistres ne sont pas chargés
+        Contrat contrat = contratRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Contrat non trouvé !"));
+        return contratMapper.toTotauxDTO(contrat);
+    }
+
+    @Override
+    @Transactional
+    public int recalculerTotaux() {
+        return contratRepository.recalculerTotaux();
     }
 }
@@ -0,0 +1,73 @@
+package org.assurance.policy_service.service.implementation;
+
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.assurance.policy_service.dto.ContratResponseDTO;
+import org.assurance.policy_service.entity.Contrat;
+import org.assurance.policy_service.entity.Sinistre;
+import org.assurance.policy_service.mapper.ContratMapper;
+import org.assurance.policy_service.mapper.SinistreMapper;
+import org.assurance.policy_service.repository.ContratRepository;
+import org.assurance.policy_service.repository.SinistreRepository;
+import org.assurance.policy_service.service.interfaces.ExportService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@AllArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    // Contrats traités entre deux vidages du contexte de persistance
+    private static final int TAILLE_TRANCHE = 500;
+
+    private final ContratRepository contratRepository;
+    private final SinistreRepository sinistreRepository;
+    private final ContratMapper contratMapper;
+    private final SinistreMapper sinistreMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exporterContrats(LocalDateTime since, Consumer<ContratResponseDTO> consumer) {
+        try (Stream<Contrat> contrats = since == null
+                ? contratRepository.streamAllByOrderById()
+                : contratRepository.streamModifiedSince(since)) {
+            List<Contrat> tranche = new ArrayList<>(TAILLE_TRANCHE);
+            contrats.forEach(contrat -> {
+                tranche.add(contrat);
+                if (tranche.size() == TAILLE_TRANCHE) {
+                    exporterTranche(tranche, consumer);
+                }
+            });
+            if (!tranche.isEmpty()) {
+                exporterTranche(tranche, consumer);
+            }
+        }
+    }
+
+    // Une requête pour les sinistres de toute la tranche, puis détachement des entités
+    private void exporterTranche(List<Contrat> tranche, Consumer<ContratResponseDTO> consumer) {
+        Map<Long, List<Sinistre>> sinistresParContrat = sinistreRepository
+                .findByContratIdIn(tranche.stream().map(Contrat::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(sinistre -> sinistre.getContrat().getId()));
+
+        for (Contrat contrat : tranche) {
+            ContratResponseDTO dto = contratMapper.toDTOSansSinistres(contrat);
+            dto.setSinistres(sinistresParContrat.getOrDefault(contrat.getId(), List.of()).stream()
+                    .map(sinistreMapper::toDTO)
+                    .toList());
+            consumer.accept(dto);
+        }
+        tranche.clear();
+        entityManager.clear();
+    }
+}
@@ -1,37 +1,70 @@
 package org.assurance.policy_service.service.implementation;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.assurance.policy_service.cache.CustomerExistenceCache;
+import org.assurance.policy_service.dto.SinistreBatchResultDTO;
 import org.assurance.policy_service.dto.SinistreRequestDTO;
 import org.assurance.policy_service.dto.SinistreResponseDTO;
+import org.assurance.policy_service.dto.SinistreSearchResponseDTO;
 import org.assurance.policy_service.entity.Contrat;
 import org.assurance.policy_service.entity.Sinistre;
-import org.assurance.policy_service.feign.CustomerClient;
+import org.assurance.policy_service.entity.enums.TypeContrat;
 import org.assurance.policy_service.mapper.SinistreMapper;
 import org.assurance.policy_service.repository.ContratRepository;
 import org.assurance.policy_service.repository.SinistreRepository;
+import org.assurance.policy_service.search.SinistreDocument;
+import org.assurance.policy_service.search.SinistreIndex;
+import org.assurance.policy_service.search.SinistresEnregistresEvent;
 import org.assurance.policy_service.service.interfaces.SinistreService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class SinistreServiceImpl implements SinistreService {
 
+    // Nombre d'ids par requête IN et nombre de sinistres par transaction en import de masse
+    private static final int TAILLE_LOT = 1000;
+    private static final int TAILLE_PAGE_MAX = 100;
+
     private final SinistreRepository sinistreRepository;
     private final SinistreMapper sinistreMapper;
     private final ContratRepository contratRepository;
-    private final CustomerClient customerClient;
+    private final CustomerExistenceCache customerExistenceCache;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final SinistreIndex sinistreIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
     @Override
+    @Transactional
     public SinistreResponseDTO declarerSinistre(SinistreRequestDTO sinistreRequestDto) {
         // Vérifier si le contrat existe
         Contrat contrat = contratRepository.findById(sinistreRequestDto.getContratId())
                 .orElseThrow(() -> new RuntimeException("Contrat non trouvé !"));
 
         // Vérifier si le client du contrat existe encore
-        boolean clientExists = Boolean.TRUE.equals(customerClient.checkCustomerExists(contrat.getClientId()).getBody());
+        boolean clientExists = customerExistenceCache.exists(contrat.getClientId());
         if (!clientExists) {
             throw new RuntimeException("Le client associé à ce contrat n'existe plus !");
         }
@@ -39,9 +72,118 @@ public class SinistreServiceImpl implements SinistreService {
         Sinistre sinistre = sinistreMapper.toEntity(sinistreRequestDto);
         sinistre.setContrat(contrat);
         Sinistre savedSinistre = sinistreRepository.save(sinistre);
+        incrementerTotaux(List.of(savedSinistre));
+        eventPublisher.publishEvent(new SinistresEnregistresEvent(List.of(SinistreDocument.de(savedSinistre))));
         return sinistreMapper.toDTO(savedSinistre);
     }
 
+    @Override
+    public List<SinistreBatchResultDTO> declarerSinistres(List<SinistreRequestDTO> sinistreRequestDtos) {
+        SinistreBatchResultDTO[] resultats = new SinistreBatchResultDTO[sinistreRequestDtos.size()];
+
+        // Charger tous les contrats référencés, puis vérifier leurs clients en un seul lot
+        Map<Long, Contrat> contrats = chargerContrats(sinistreRequestDtos.stream()
+                .filter(Objects::nonNull)
+                .map(SinistreRequestDTO::getContratId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Map<Long, Boolean> clients = customerExistenceCache.existsAll(contrats.values().stream()
+                .map(Contrat::getClientId)
+                .collect(Collectors.toSet()));
+
+        List<Integer> lignes = new ArrayList<>();
+        List<Sinistre> sinistres = new ArrayList<>();
+        for (int ligne = 0; ligne < sinistreRequestDtos.size(); ligne++) {
+            SinistreRequestDTO dto = sinistreRequestDtos.get(ligne);
+            String invalide = valider(dto);
+            Contrat contrat = invalide != null || dto.getContratId() == null ? null : contrats.get(dto.getContratId());
+            if (invalide != null) {
+                resultats[ligne] = SinistreBatchResultDTO.rejete(ligne, invalide);
+            } else if (contrat == null) {
+                resultats[ligne] = SinistreBatchResultDTO.rejete(ligne, "Contrat non trouvé !");
+            } else if (!Boolean.TRUE.equals(clients.get(contrat.getClientId()))) {
+                resultats[ligne] = SinistreBatchResultDTO.rejete(ligne, "Le client associé à ce contrat n'existe plus !");
+            } else {
+                Sinistre sinistre = sinistreMapper.toEntity(dto);
+                sinistre.setContrat(contrat);
+                lignes.add(ligne);
+                sinistres.add(sinistre);
+            }
+        }
+
+        // Persister par tranches : une transaction par tranche, insertions envoyées en batch JDBC
+        for (int debut = 0; debut < sinistres.size(); debut += TAILLE_LOT) {
+            int fin = Math.min(sinistres.size(), debut + TAILLE_LOT);
+            List<Sinistre> tranche = sinistres.subList(debut, fin);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    sinistreRepository.saveAll(tranche);
+                    incrementerTotaux(tranche);
+                    eventPublisher.publishEvent(new SinistresEnregistresEvent(
+                            tranche.stream().map(SinistreDocument::de).toList()));
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                for (int i = debut; i < fin; i++) {
+                    resultats[lignes.get(i)] = SinistreBatchResultDTO.cree(lignes.get(i), sinistres.get(i).getId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Échec de l'enregistrement d'une tranche de {} sinistres", tranche.size(), e);
+                for (int i = debut; i < fin; i++) {
+                    resultats[lignes.get(i)] = SinistreBatchResultDTO.rejete(lignes.get(i), "Échec de l'enregistrement : " + e.getMessage());
+                }
+            }
+        }
+        return List.of(resultats);
+    }
+
+    // Mêmes contraintes que la déclaration unitaire (@Valid), mais la ligne seule est rejetée ; null si valide
+    private String valider(SinistreRequestDTO dto) {
+        if (dto == null) {
+            return "Ligne vide";
+        }
+        Set<ConstraintViolation<SinistreRequestDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" ; "));
+    }
+
+    // Une mise à jour des agrégats par contrat touché, sous verrou de ligne et dans l'ordre des ids
+    // (pas d'interblocage entre deux lots). Mise à jour par l'entité et non en requête de masse :
+    // Hibernate n'a ainsi à rafraîchir que ces contrats dans le cache, pas toute la région
+    private void incrementerTotaux(List<Sinistre> sinistres) {
+        sinistres.stream()
+                .collect(Collectors.groupingBy(sinistre -> sinistre.getContrat().getId(), TreeMap::new, Collectors.toList()))
+                .forEach((contratId, sinistresDuContrat) -> {
+                    Contrat contrat = entityManager.find(Contrat.class, contratId);
+                    // Relu en base (SELECT ... FOR UPDATE) : la valeur en cache peut dater
+                    entityManager.refresh(contrat, LockModeType.PESSIMISTIC_WRITE);
+                    contrat.setNombreSinistres(contrat.getNombreSinistres() + sinistresDuContrat.size());
+                    contrat.setTotalReclame(contrat.getTotalReclame() + sinistresDuContrat.stream()
+                            .mapToDouble(sinistre -> montant(sinistre.getMontantRéclamé())).sum());
+                    contrat.setTotalRembourse(contrat.getTotalRembourse() + sinistresDuContrat.stream()
+                            .mapToDouble(sinistre -> montant(sinistre.getMontantRemboursé())).sum());
+                });
+    }
+
+    private static double montant(Double montant) {
+        return montant == null ? 0.0 : montant;
+    }
+
+    private Map<Long, Contrat> chargerContrats(Set<Long> contratIds) {
+        Map<Long, Contrat> contrats = new HashMap<>();
+        List<Long> ids = new ArrayList<>(contratIds);
+        for (int debut = 0; debut < ids.size(); debut += TAILLE_LOT) {
+            contratRepository.findAllById(ids.subList(debut, Math.min(ids.size(), debut + TAILLE_LOT)))
+                    .forEach(contrat -> contrats.put(contrat.getId(), contrat));
+        }
+        return contrats;
+    }
+
     @Override
     public List<SinistreResponseDTO> getSinistresByContratId(Long contratId) {
         List<Sinistre> sinistres = sinistreRepository.findByContratId(contratId);
@@ -49,4 +191,28 @@ public class SinistreServiceImpl implements SinistreService {
                 .map(sinistreMapper::toDTO)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public SinistreSearchResponseDTO rechercherSinistres(String q, LocalDate du, LocalDate au, TypeContrat type,
+                                                         int page, int taille) {
+        int numeroPage = Math.max(page, 0);
+        int taillePage = Math.min(Math.max(taille, 1), TAILLE_PAGE_MAX);
+        SinistreIndex.Page resultats = sinistreIndex.rechercher(q, du, au, type, numeroPage, taillePage);
+
+        // Une seule requête pour le détail de la page ; l'ordre de l'index est conservé
+        Map<Long, Sinistre> sinistres = sinistreRepository.findWithContratByIdIn(resultats.resultats().stream()
+                        .map(resultat -> resultat.document().id())
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Sinistre::getId, Function.identity()));
+        List<SinistreSearchResponseDTO.Resultat> contenu = resultats.resultats().stream()
+                .filter(resultat -> sinistres.containsKey(resultat.document().id()))
+                .map(resultat -> {
+                    SinistreResponseDTO dto = sinistreMapper.toDTO(sinistres.get(resultat.document().id()));
+                    dto.setContratId(resultat.document().contratId());
+                    return new SinistreSearchResponseDTO.Resultat(dto, resultat.score());
+                })
+                .toList();
+        return new SinistreSearchResponseDTO(contenu, numeroPage, taillePage, resultats.total());
+    }
 }
@@ -2,6 +2,7 @@ package org.assurance.policy_service.service.interfaces;
 
 import org.assurance.policy_service.dto.ContratRequestDTO;
 import org.assurance.policy_service.dto.ContratResponseDTO;
+import org.assurance.policy_service.dto.ContratTotauxDTO;
 
 import java.util.List;
 
@@ -9,4 +10,6 @@ public interface ContratService {
     ContratResponseDTO creerContrat(ContratRequestDTO contratRequestDto);
     ContratResponseDTO getContratById(Long id);
     List<ContratResponseDTO> getContratsByClientId(Long clientId);
+    ContratTotauxDTO getTotauxContrat(Long id);
+    int recalculerTotaux();
 }
@@ -0,0 +1,10 @@
+package org.assurance.policy_service.service.interfaces;
+
+import org.assurance.policy_service.dto.ContratResponseDTO;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface ExportService {
+    void exporterContrats(LocalDateTime since, Consumer<ContratResponseDTO> consumer);
+}
@@ -1,11 +1,18 @@
 package org.assurance.policy_service.service.interfaces;
 
+import org.assurance.policy_service.dto.SinistreBatchResultDTO;
 import org.assurance.policy_service.dto.SinistreRequestDTO;
 import org.assurance.policy_service.dto.SinistreResponseDTO;
+import org.assurance.policy_service.dto.SinistreSearchResponseDTO;
+import org.assurance.policy_service.entity.enums.TypeContrat;
+
+import java.time.LocalDate;
 
 import java.util.List;
 
 public interface SinistreService {
     SinistreResponseDTO declarerSinistre(SinistreRequestDTO sinistreRequestDto);
+    List<SinistreBatchResultDTO> declarerSinistres(List<SinistreRequestDTO> sinistreRequestDtos);
     List<SinistreResponseDTO> getSinistresByContratId(Long contratId);
+    SinistreSearchResponseDTO rechercherSinistres(String q, LocalDate du, LocalDate au, TypeContrat type, int page, int taille);
 }
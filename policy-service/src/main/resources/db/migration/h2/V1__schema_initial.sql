@@ -0,0 +1,32 @@
+-- Même schéma que db/migration/mysql, pour la base H2 embarquée (développement, tests) :
+-- sans ces scripts, Flyway remplace ddl-auto et H2 démarre sans tables.
+
+CREATE TABLE IF NOT EXISTS contrat (
+    id                 BIGINT NOT NULL,
+    type               VARCHAR(255),
+    date_effet         DATE,
+    date_expiration    DATE,
+    montant_couverture FLOAT(53),
+    client_id          BIGINT,
+    date_modification  TIMESTAMP(6),
+    nombre_sinistres   INTEGER   NOT NULL DEFAULT 0,
+    total_reclame      FLOAT(53) NOT NULL DEFAULT 0,
+    total_rembourse    FLOAT(53) NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS sinistre (
+    id                BIGINT NOT NULL,
+    date              DATE,
+    description       VARCHAR(255),
+    montant_réclamé   FLOAT(53),
+    montant_remboursé FLOAT(53),
+    date_modification TIMESTAMP(6),
+    contrat_id        BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_sinistre_contrat FOREIGN KEY (contrat_id) REFERENCES contrat (id)
+);
+
+-- Séquences natives, incrément égal à l'allocationSize des entités (optimiseur "pooled")
+CREATE SEQUENCE IF NOT EXISTS contrat_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS sinistre_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,42 @@
+-- Schéma jusqu'ici créé par ddl-auto. Tout est conditionnel : sur une base existante
+-- (baseline-on-migrate), seuls les éléments manquants sont créés.
+
+CREATE TABLE IF NOT EXISTS contrat (
+    id                 BIGINT NOT NULL,
+    type               ENUM ('AUTO', 'HABITATION', 'SANTÉ'),
+    date_effet         DATE,
+    date_expiration    DATE,
+    montant_couverture FLOAT(53),
+    client_id          BIGINT,
+    date_modification  DATETIME(6),
+    nombre_sinistres   INTEGER   NOT NULL DEFAULT 0,
+    total_reclame      FLOAT(53) NOT NULL DEFAULT 0,
+    total_rembourse    FLOAT(53) NOT NULL DEFAULT 0,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS sinistre (
+    id                BIGINT NOT NULL,
+    date              DATE,
+    description       VARCHAR(255),
+    montant_réclamé   FLOAT(53),
+    montant_remboursé FLOAT(53),
+    date_modification DATETIME(6),
+    contrat_id        BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_sinistre_contrat FOREIGN KEY (contrat_id) REFERENCES contrat (id)
+) ENGINE = InnoDB;
+
+-- MySQL n'a pas de séquences : Hibernate les émule par une table à une ligne
+CREATE TABLE IF NOT EXISTS contrat_seq (next_val BIGINT) ENGINE = InnoDB;
+CREATE TABLE IF NOT EXISTS sinistre_seq (next_val BIGINT) ENGINE = InnoDB;
+
+INSERT INTO contrat_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM contrat_seq);
+INSERT INTO sinistre_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM sinistre_seq);
+
+-- Lignes créées avant les séquences (ids en auto-incrément) : avec l'optimiseur "pooled"
+-- (allocationSize 50), le prochain bloc d'ids commence juste après le plus grand id existant
+UPDATE contrat_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM contrat)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM contrat);
+UPDATE sinistre_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM sinistre)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM sinistre);
@@ -0,0 +1,4 @@
+-- Colonnes filtrées à chaque requête : contrats d'un client, sinistres d'un contrat.
+-- Sur sinistre, cet index remplace celui que MySQL crée implicitement pour la clé étrangère.
+CREATE INDEX idx_contrat_client_id ON contrat (client_id);
+CREATE INDEX idx_sinistre_contrat_id ON sinistre (contrat_id);
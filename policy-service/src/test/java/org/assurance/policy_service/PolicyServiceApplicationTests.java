@@ -3,7 +3,8 @@ package org.assurance.policy_service;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// Schéma créé par les migrations Flyway (db/migration/h2), vérifié contre les entités
+@SpringBootTest(properties = {"spring.jpa.hibernate.ddl-auto=validate", "tracing.collector-token=test-token"})
 class PolicyServiceApplicationTests {
 
 	@Test
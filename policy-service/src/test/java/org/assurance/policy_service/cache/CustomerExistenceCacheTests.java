@@ -0,0 +1,96 @@
+package org.assurance.policy_service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assurance.policy_service.feign.CustomerClientProperties;
+import org.assurance.policy_service.feign.CustomerExistsCollapser;
+import org.assurance.policy_service.feign.CustomerFallback;
+import org.assurance.policy_service.feign.CustomerFallbackPolicy;
+import org.assurance.policy_service.feign.CustomerServiceUnavailableException;
+import org.assurance.policy_service.replica.CustomerReplica;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerExistenceCacheTests {
+
+	private final CustomerExistsCollapser collapser = mock(CustomerExistsCollapser.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void confirmedAnswerIsCached() {
+		CustomerExistenceCache cache = cache(CustomerFallbackPolicy.ASSUME_EXISTS);
+		when(collapser.submit(1L)).thenReturn(CompletableFuture.completedFuture(true));
+
+		assertThat(cache.exists(1L)).isTrue();
+		assertThat(cache.exists(1L)).isTrue();
+
+		verify(collapser, times(1)).submit(1L);
+	}
+
+	@Test
+	void fallbackAnswerIsNotCached() {
+		CustomerExistenceCache cache = cache(CustomerFallbackPolicy.ASSUME_EXISTS);
+		when(collapser.submit(1L)).thenReturn(
+				CompletableFuture.failedFuture(indisponible()),
+				CompletableFuture.completedFuture(false));
+
+		assertThat(cache.exists(1L)).isTrue();
+		// Service revenu : la supposition ne masque pas la vraie réponse
+		assertThat(cache.exists(1L)).isFalse();
+	}
+
+	@Test
+	void unavailableWithoutFallbackIsRejectedThenRetried() {
+		CustomerExistenceCache cache = cache(CustomerFallbackPolicy.REJECT);
+		when(collapser.submit(1L)).thenReturn(
+				CompletableFuture.failedFuture(indisponible()),
+				CompletableFuture.completedFuture(true));
+
+		assertThatThrownBy(() -> cache.exists(1L)).isInstanceOf(CustomerServiceUnavailableException.class);
+		assertThat(cache.exists(1L)).isTrue();
+	}
+
+	@Test
+	void batchFallbackKeepsCachedAnswersAndCachesNothingNew() {
+		CustomerExistenceCache cache = cache(CustomerFallbackPolicy.ASSUME_EXISTS);
+		when(collapser.submit(1L)).thenReturn(CompletableFuture.completedFuture(false));
+		cache.exists(1L);
+		when(collapser.existsAll(any())).thenThrow(indisponible()).thenReturn(Map.of(2L, false));
+
+		assertThat(cache.existsAll(List.of(1L, 2L))).isEqualTo(Map.of(1L, false, 2L, true));
+		assertThat(cache.existsAll(List.of(1L, 2L))).isEqualTo(Map.of(1L, false, 2L, false));
+
+		verify(collapser, times(2)).existsAll(Set.of(2L));
+	}
+
+	@Test
+	void batchWithoutFallbackIsRejected() {
+		CustomerExistenceCache cache = cache(CustomerFallbackPolicy.LAST_KNOWN);
+		when(collapser.existsAll(any())).thenThrow(indisponible());
+
+		assertThatThrownBy(() -> cache.existsAll(List.of(1L, 2L)))
+				.isInstanceOf(CustomerServiceUnavailableException.class);
+	}
+
+	private CustomerExistenceCache cache(CustomerFallbackPolicy policy) {
+		CustomerClientProperties clientProperties = new CustomerClientProperties();
+		clientProperties.setFallback(policy);
+		return new CustomerExistenceCache(collapser, new CustomerReplica(meterRegistry),
+				new CustomerFallback(clientProperties, meterRegistry), new CustomerCacheProperties(), meterRegistry);
+	}
+
+	private static CustomerServiceUnavailableException indisponible() {
+		return new CustomerServiceUnavailableException(new RuntimeException("circuit ouvert"));
+	}
+}
@@ -0,0 +1,126 @@
+package org.assurance.policy_service.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutExecutorTests {
+
+	private FanOutExecutor fanOutExecutor;
+
+	@AfterEach
+	void tearDown() {
+		fanOutExecutor.destroy();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	void combinesBothResults(boolean virtualThreads) {
+		fanOutExecutor = executor(Duration.ofSeconds(1), virtualThreads);
+
+		String resultat = fanOutExecutor.both(() -> 1, () -> "a", (nombre, texte) -> texte + nombre);
+
+		assertThat(resultat).isEqualTo("a1");
+	}
+
+	@Test
+	void failureInterruptsTheOtherCallAndIsRethrownAsIs() throws Exception {
+		fanOutExecutor = executor(Duration.ofSeconds(5), false);
+		CountDownLatch demarre = new CountDownLatch(1);
+		CountDownLatch interrompu = new CountDownLatch(1);
+		IllegalStateException erreur = new IllegalStateException("Client non trouvé !");
+
+		long debut = System.nanoTime();
+		assertThatThrownBy(() -> fanOutExecutor.both(
+				() -> {
+					// Échoue une fois l'autre appel en cours, qui doit alors être interrompu
+					attendre(demarre);
+					throw erreur;
+				},
+				bloquant(demarre, interrompu),
+				(a, b) -> a))
+				.isSameAs(erreur);
+
+		// Échec immédiat, sans attendre l'autre appel ni le délai
+		assertThat(Duration.ofNanos(System.nanoTime() - debut)).isLessThan(Duration.ofSeconds(2));
+		assertThat(interrompu.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void failureOfTheSecondCallInterruptsTheFirst() throws Exception {
+		fanOutExecutor = executor(Duration.ofSeconds(5), false);
+		CountDownLatch demarre = new CountDownLatch(1);
+		CountDownLatch interrompu = new CountDownLatch(1);
+
+		assertThatThrownBy(() -> fanOutExecutor.both(
+				bloquant(demarre, interrompu),
+				() -> {
+					attendre(demarre);
+					throw new IllegalArgumentException("second");
+				},
+				(a, b) -> a))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("second");
+
+		assertThat(interrompu.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void timeoutInterruptsBothCalls() throws Exception {
+		fanOutExecutor = executor(Duration.ofMillis(100), false);
+		CountDownLatch demarres = new CountDownLatch(2);
+		CountDownLatch interrompus = new CountDownLatch(2);
+
+		long debut = System.nanoTime();
+		assertThatThrownBy(() -> fanOutExecutor.both(bloquant(demarres, interrompus), bloquant(demarres, interrompus),
+				(a, b) -> a))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("Délai dépassé pour les appels parallèles")
+				.hasCauseInstanceOf(TimeoutException.class);
+
+		assertThat(Duration.ofNanos(System.nanoTime() - debut)).isLessThan(Duration.ofSeconds(2));
+		assertThat(interrompus.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	// Appel qui signale son démarrage et ne se termine que par une interruption, signalée elle aussi
+	private static Supplier<String> bloquant(CountDownLatch demarre, CountDownLatch interrompu) {
+		return () -> {
+			demarre.countDown();
+			try {
+				Thread.sleep(30_000);
+				return "fini";
+			} catch (InterruptedException e) {
+				interrompu.countDown();
+				throw new IllegalStateException("interrompu", e);
+			}
+		};
+	}
+
+	private static void attendre(CountDownLatch verrou) {
+		try {
+			if (!verrou.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("L'autre appel n'a pas démarré");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static FanOutExecutor executor(Duration timeout, boolean virtualThreads) {
+		FanOutProperties properties = new FanOutProperties();
+		properties.setThreads(4);
+		properties.setTimeout(timeout);
+		return new FanOutExecutor(properties, virtualThreads);
+	}
+}
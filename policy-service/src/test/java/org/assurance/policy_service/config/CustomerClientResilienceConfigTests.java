@@ -0,0 +1,32 @@
+package org.assurance.policy_service.config;
+
+import feign.Feign;
+import org.assurance.policy_service.feign.CustomerClient;
+import org.assurance.policy_service.feign.CustomerEventsClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomerClientResilienceConfigTests {
+
+	@Test
+	void appliesToEveryCustomerClientMethod() {
+		assertThat(idsOpenFeign(CustomerClient.class)).allMatch(CustomerClientResilienceConfig::estCustomerClient);
+	}
+
+	@Test
+	void leavesTheReplicaClientWithTheDefaults() {
+		assertThat(idsOpenFeign(CustomerEventsClient.class)).noneMatch(CustomerClientResilienceConfig::estCustomerClient);
+	}
+
+	// Identifiants tels que les construit OpenFeign, avec et sans alphanumeric-ids
+	private static List<String> idsOpenFeign(Class<?> client) {
+		return Arrays.stream(client.getDeclaredMethods())
+				.map(method -> Feign.configKey(client, method))
+				.flatMap(id -> List.of(id, id.replaceAll("[^a-zA-Z0-9]", "")).stream())
+				.toList();
+	}
+}
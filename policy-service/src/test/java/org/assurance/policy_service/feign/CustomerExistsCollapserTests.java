@@ -0,0 +1,163 @@
+package org.assurance.policy_service.feign;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomerExistsCollapserTests {
+
+	private final CustomerClient customerClient = mock(CustomerClient.class);
+	private final CustomerFallback customerFallback =
+			new CustomerFallback(new CustomerClientProperties(), new SimpleMeterRegistry());
+
+	private CustomerExistsCollapser collapser;
+
+	@AfterEach
+	void tearDown() {
+		collapser.destroy();
+	}
+
+	@Test
+	void checksOfOneWindowShareOneCall() {
+		collapser = collapser(Duration.ofMillis(20), 500);
+		existing(1L);
+
+		CompletableFuture<Boolean> premier = collapser.submit(1L);
+		CompletableFuture<Boolean> second = collapser.submit(2L);
+		CompletableFuture<Boolean> doublon = collapser.submit(1L);
+
+		assertThat(premier.join()).isTrue();
+		assertThat(second.join()).isFalse();
+		assertThat(doublon).isSameAs(premier);
+		assertThat(calls()).containsExactly(Set.of(1L, 2L));
+		// Réponses mémorisées pour le repli
+		assertThat(customerFallback.resolve(List.of(1L, 2L))).isEqualTo(Map.of(1L, true, 2L, false));
+	}
+
+	@Test
+	void fullBatchLeavesWithoutWaitingForTheWindow() {
+		collapser = collapser(Duration.ofMinutes(1), 3);
+		existing();
+
+		List<CompletableFuture<Boolean>> lot = List.of(collapser.submit(1L), collapser.submit(2L), collapser.submit(3L));
+		CompletableFuture<Boolean> suivant = collapser.submit(4L);
+
+		assertThat(lot).allMatch(CompletableFuture::isDone);
+		assertThat(suivant).isNotDone();
+		assertThat(calls()).containsExactly(Set.of(1L, 2L, 3L));
+	}
+
+	@Test
+	void batchesNeverExceedWhatCustomerServiceAccepts() {
+		collapser = collapser(Duration.ofMinutes(1), 5000);
+		existing();
+
+		List<CompletableFuture<Boolean>> lot = LongStream.rangeClosed(1, 1000).mapToObj(collapser::submit).toList();
+
+		assertThat(lot).allMatch(CompletableFuture::isDone);
+		assertThat(calls()).singleElement().satisfies(ids -> assertThat(ids).hasSize(1000));
+	}
+
+	@Test
+	void existsAllIsSplitIntoBatches() {
+		collapser = collapser(Duration.ofMillis(5), 2);
+		existing(1L, 5L);
+
+		Map<Long, Boolean> reponses = collapser.existsAll(Set.of(1L, 2L, 3L, 4L, 5L));
+
+		assertThat(reponses).isEqualTo(Map.of(1L, true, 2L, false, 3L, false, 4L, false, 5L, true));
+		assertThat(calls()).extracting(Set::size).containsExactlyInAnyOrder(2, 2, 1);
+	}
+
+	@Test
+	void existsAllBatchesAreCappedAtCustomerServiceLimit() {
+		collapser = collapser(Duration.ofMillis(5), 5000);
+		existing();
+		Set<Long> ids = LongStream.rangeClosed(1, 2500).boxed().collect(Collectors.toSet());
+
+		assertThat(collapser.existsAll(ids)).hasSize(2500);
+		assertThat(calls()).extracting(Set::size).containsExactlyInAnyOrder(1000, 1000, 500);
+	}
+
+	@Test
+	void failureReachesEveryCheckOfTheBatch() {
+		collapser = collapser(Duration.ofMinutes(1), 2);
+		CustomerServiceUnavailableException indisponible =
+				new CustomerServiceUnavailableException(new IllegalStateException("circuit ouvert"));
+		when(customerClient.findExistingCustomers(anySet())).thenThrow(indisponible);
+
+		CompletableFuture<Boolean> premier = collapser.submit(1L);
+
+		assertThatThrownBy(() -> collapser.exists(2L)).isSameAs(indisponible);
+		assertThat(premier).isCompletedExceptionally();
+		assertThatThrownBy(premier::join).hasCause(indisponible);
+		// Rien n'est mémorisé d'un appel échoué
+		assertThat(customerFallback.resolve(List.of(1L, 2L))).isEmpty();
+	}
+
+	@Test
+	void existsAllFailurePropagates() {
+		collapser = collapser(Duration.ofMillis(5), 2);
+		CustomerServiceUnavailableException indisponible =
+				new CustomerServiceUnavailableException(new IllegalStateException("circuit ouvert"));
+		when(customerClient.findExistingCustomers(anySet())).thenThrow(indisponible);
+
+		assertThatThrownBy(() -> collapser.existsAll(Set.of(1L, 2L, 3L))).isSameAs(indisponible);
+		verify(customerClient, times(1)).findExistingCustomers(anySet());
+	}
+
+	@Test
+	void emptyExistsAllMakesNoCall() {
+		collapser = collapser(Duration.ofMillis(5), 2);
+
+		assertThat(collapser.existsAll(Set.of())).isEmpty();
+		verify(customerClient, never()).findExistingCustomers(anySet());
+	}
+
+	// customer-service connaît ces clients et renvoie ceux qu'on lui demande parmi eux
+	private void existing(Long... ids) {
+		Set<Long> clients = Set.of(ids);
+		when(customerClient.findExistingCustomers(anySet())).thenAnswer(invocation -> {
+			Set<Long> demandes = new HashSet<>(invocation.getArgument(0));
+			demandes.retainAll(clients);
+			return ResponseEntity.ok(demandes);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Set<Long>> calls() {
+		ArgumentCaptor<Set<Long>> ids = ArgumentCaptor.forClass(Set.class);
+		verify(customerClient, atLeast(0)).findExistingCustomers(ids.capture());
+		return ids.getAllValues();
+	}
+
+	// Exécution synchrone des lots : l'appel groupé a eu lieu quand submit ou flush rend la main
+	private CustomerExistsCollapser collapser(Duration window, int maxBatchSize) {
+		CustomerCollapserProperties properties = new CustomerCollapserProperties();
+		properties.setWindow(window);
+		properties.setMaxBatchSize(maxBatchSize);
+		return new CustomerExistsCollapser(customerClient, properties, customerFallback, new SyncTaskExecutor());
+	}
+}
@@ -0,0 +1,151 @@
+package org.assurance.policy_service.load;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.assurance.policy_service.PolicyServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares throughput and p99 latency of GET /contrats/client/{id} with platform and virtual
+ * request threads while customer-service answers slowly. The existence cache is disabled so
+ * every request waits on the remote call.
+ *
+ * Run with: mvn test -Dtest=ThreadingModeLoadTest -Dloadtest=true (Java 21 required).
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class ThreadingModeLoadTest {
+
+	private static final Duration CUSTOMER_SERVICE_DELAY = Duration.ofMillis(100);
+	private static final int TOMCAT_MAX_THREADS = 50;
+	private static final int CONCURRENCY = 200;
+	private static final int WARMUP_REQUESTS = 500;
+	private static final int REQUESTS = 4_000;
+
+	private final AtomicInteger clientIds = new AtomicInteger();
+
+	@Test
+	void virtualThreadsKeepServingWhileCustomerServiceIsSlow() throws Exception {
+		HttpServer customerService = slowCustomerService();
+		try {
+			int stubPort = customerService.getAddress().getPort();
+			Result platform = run(false, stubPort);
+			Result virtual = run(true, stubPort);
+
+			log.info("Threads plateforme : {} req/s, p99 {} ms", Math.round(platform.throughput()),
+					String.format("%.1f", platform.p99Millis()));
+			log.info("Threads virtuels : {} req/s, p99 {} ms", Math.round(virtual.throughput()),
+					String.format("%.1f", virtual.p99Millis()));
+
+			assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+		} finally {
+			customerService.stop(0);
+		}
+	}
+
+	private Result run(boolean virtualThreads, int stubPort) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PolicyServiceApplication.class)
+				// Arguments plutôt que properties() : ces dernières sont écrasées par application.yml
+				.run(
+						"--server.port=0",
+						"--spring.cloud.config.enabled=false",
+						"--eureka.client.enabled=false",
+						"--spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads,
+						"--spring.jpa.hibernate.ddl-auto=create-drop",
+						"--spring.cloud.openfeign.client.config.customer-service.url=http://localhost:" + stubPort,
+						"--customer-cache.maximum-size=0",
+						// Chaque vérification doit atteindre le bouchon de customer-service
+						"--customer-replica.enabled=false",
+						"--customer-client.max-concurrent-calls=" + CONCURRENCY,
+						"--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+						"--spring.threads.virtual.enabled=" + virtualThreads,
+						"--logging.level.org.springframework.cloud.openfeign=INFO")) {
+			String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+			HttpClient client = HttpClient.newBuilder().build();
+			load(client, baseUrl, WARMUP_REQUESTS);
+			return load(client, baseUrl, REQUESTS);
+		}
+	}
+
+	private Result load(HttpClient client, String baseUrl, int requests) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+		try {
+			List<Future<Long>> futures = new ArrayList<>(requests);
+			long start = System.nanoTime();
+			for (int i = 0; i < requests; i++) {
+				futures.add(executor.submit(() -> call(client, baseUrl)));
+			}
+			long[] latencies = new long[requests];
+			for (int i = 0; i < requests; i++) {
+				latencies[i] = futures.get(i).get();
+			}
+			long elapsed = System.nanoTime() - start;
+			Arrays.sort(latencies);
+			return new Result(requests * 1e9 / elapsed, latencies[(int) (requests * 0.99) - 1] / 1e6);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private long call(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/contrats/client/" + clientIds.incrementAndGet()))
+				.GET()
+				.build();
+		long start = System.nanoTime();
+		HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+		assertThat(response.statusCode()).isEqualTo(200);
+		return System.nanoTime() - start;
+	}
+
+	// Stub de customer-service : répond "tous les clients existent" après un délai fixe
+	private static HttpServer slowCustomerService() throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/customers/exists", exchange -> {
+			byte[] ids;
+			try (InputStream body = exchange.getRequestBody()) {
+				ids = body.readAllBytes();
+			}
+			try {
+				Thread.sleep(CUSTOMER_SERVICE_DELAY.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, ids.length);
+			try (OutputStream response = exchange.getResponseBody()) {
+				response.write(ids);
+			}
+		});
+		server.start();
+		return server;
+	}
+
+	private record Result(double throughput, double p99Millis) {
+	}
+}
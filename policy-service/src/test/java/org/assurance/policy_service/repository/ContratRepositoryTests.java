@@ -0,0 +1,107 @@
+package org.assurance.policy_service.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.assurance.policy_service.dto.ContratResponseDTO;
+import org.assurance.policy_service.entity.Contrat;
+import org.assurance.policy_service.entity.Sinistre;
+import org.assurance.policy_service.entity.enums.TypeContrat;
+import org.assurance.policy_service.mapper.ContratMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class ContratRepositoryTests {
+
+	private static final long CLIENT_ID = 42L;
+	private static final int CONTRATS = 20;
+	private static final int SINISTRES_PAR_CONTRAT = 3;
+
+	@Autowired
+	private ContratRepository contratRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final ContratMapper contratMapper = ContratMapper.INSTANCE;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < CONTRATS; i++) {
+			Contrat contrat = new Contrat();
+			contrat.setType(TypeContrat.AUTO);
+			contrat.setDateEffet(LocalDate.of(2024, 1, 1));
+			contrat.setDateExpiration(LocalDate.of(2025, 1, 1));
+			contrat.setMontantCouverture(10_000.0);
+			contrat.setClientId(CLIENT_ID);
+			entityManager.persist(contrat);
+			for (int j = 0; j < SINISTRES_PAR_CONTRAT; j++) {
+				Sinistre sinistre = new Sinistre();
+				sinistre.setDate(LocalDate.of(2024, 6, j + 1));
+				sinistre.setDescription("Sinistre " + j);
+				sinistre.setMontantRéclamé(100.0);
+				sinistre.setMontantRemboursé(50.0);
+				sinistre.setContrat(contrat);
+				entityManager.persist(sinistre);
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void findWithSinistresByClientIdLoadsContratsAndSinistresInOneStatement() {
+		List<ContratResponseDTO> contrats = contratRepository.findWithSinistresByClientId(CLIENT_ID).stream()
+				.map(contratMapper::toDTO)
+				.toList();
+
+		assertThat(contrats).hasSize(CONTRATS);
+		assertThat(contrats).allSatisfy(contrat -> assertThat(contrat.getSinistres()).hasSize(SINISTRES_PAR_CONTRAT));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void findByClientIdTriggersOneStatementPerContratWhenMapping() {
+		List<ContratResponseDTO> contrats = contratRepository.findByClientId(CLIENT_ID).stream()
+				.map(contratMapper::toDTO)
+				.toList();
+
+		assertThat(contrats).hasSize(CONTRATS);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + CONTRATS);
+	}
+
+	@Test
+	void findWithSinistresByIdLoadsSinistresEagerly() {
+		Long id = contratRepository.findByClientId(CLIENT_ID).get(0).getId();
+		entityManager.clear();
+		statistics.clear();
+
+		ContratResponseDTO contrat = contratMapper.toDTO(contratRepository.findWithSinistresById(id).orElseThrow());
+
+		assertThat(contrat.getSinistres()).hasSize(SINISTRES_PAR_CONTRAT);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,99 @@
+package org.assurance.policy_service.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vérifie sur le schéma des migrations (H2 en mode MySQL, validé par Hibernate) que les
+ * requêtes générées pour les recherches par client et par contrat passent par un index.
+ */
+@DataJpaTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+		"spring.flyway.locations=classpath:db/migration/mysql",
+		"spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=false",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "org.assurance.policy_service.repository.IndexUsageTests$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IndexUsageTests {
+
+	@Autowired
+	private ContratRepository contratRepository;
+
+	@Autowired
+	private SinistreRepository sinistreRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		SqlCapture.STATEMENTS.clear();
+	}
+
+	@Test
+	void findByClientIdUsesClientIndex() {
+		contratRepository.findByClientId(42L);
+
+		assertUtiliseIndex(plan(42L), "client_id");
+	}
+
+	@Test
+	void findWithSinistresByClientIdUsesClientIndex() {
+		contratRepository.findWithSinistresByClientId(42L);
+
+		assertUtiliseIndex(plan(42L), "client_id");
+	}
+
+	@Test
+	void findByContratIdUsesContratIndex() {
+		sinistreRepository.findByContratId(7L);
+
+		assertUtiliseIndex(plan(7L), "contrat_id");
+	}
+
+	@Test
+	void findByContratIdInUsesContratIndex() {
+		sinistreRepository.findByContratIdIn(List.of(7L, 8L));
+
+		assertUtiliseIndex(plan(7L, 8L), "contrat_id");
+	}
+
+	private String plan(Object... parametres) {
+		assertThat(SqlCapture.STATEMENTS).hasSize(1);
+		return jdbcTemplate.queryForObject("explain " + SqlCapture.STATEMENTS.get(0), String.class, parametres);
+	}
+
+	// H2 annote chaque table de son chemin d'accès : "/* public.<index>: <colonne> = ?1 */" ou
+	// "/* public.<table>.tableScan */". Sur sinistre, H2 peut choisir l'index implicite de la
+	// clé étrangère, que MySQL remplace par idx_sinistre_contrat_id : seule la colonne est vérifiée.
+	private static void assertUtiliseIndex(String plan, String colonne) {
+		assertThat(plan).doesNotContainIgnoringCase("tableScan");
+		assertThat(plan).containsPattern("/\\* \\S+: " + colonne + " (=|IN)");
+	}
+
+	public static class SqlCapture implements StatementInspector {
+
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
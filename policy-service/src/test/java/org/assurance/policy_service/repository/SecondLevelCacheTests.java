@@ -0,0 +1,167 @@
+package org.assurance.policy_service.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assurance.policy_service.entity.Contrat;
+import org.assurance.policy_service.entity.Sinistre;
+import org.assurance.policy_service.entity.enums.TypeContrat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cache de second niveau vu d'une transaction à l'autre : chaque étape est validée, comme
+ * dans l'application. Le gestionnaire Ehcache est partagé par les contextes de test de la
+ * JVM, d'où le vidage complet avant et après chaque test.
+ */
+@DataJpaTest(properties = {
+		"spring.cloud.config.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTests {
+
+	private static final long CLIENT_ID = 7L;
+
+	@Autowired
+	private ContratRepository contratRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		entityManagerFactory.getCache().evictAll();
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@AfterEach
+	void tearDown() {
+		entityManagerFactory.getCache().evictAll();
+	}
+
+	@Test
+	void findByIdIsServedFromCacheAfterCommit() {
+		Long id = creerContrat(0);
+		statistics.clear();
+
+		Contrat contrat = transactionTemplate.execute(status -> contratRepository.findById(id).orElseThrow());
+
+		assertThat(contrat.getClientId()).isEqualTo(CLIENT_ID);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getDomainDataRegionStatistics("contrat").getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void findWithSinistresByIdIsServedFromCachesOnSecondCall() {
+		Long id = creerContrat(3);
+		transactionTemplate.execute(status -> nombreSinistresCharges(id));
+		statistics.clear();
+
+		int sinistres = transactionTemplate.execute(status -> nombreSinistresCharges(id));
+
+		assertThat(sinistres).isEqualTo(3);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void newSinistreEvictsCachedCollectionAndQueries() {
+		Long id = creerContrat(3);
+		transactionTemplate.execute(status -> nombreSinistresCharges(id));
+		transactionTemplate.execute(status -> contratRepository.findById(id).orElseThrow().getSinistres().size());
+
+		// Seul le côté propriétaire de l'association est renseigné, comme dans SinistreServiceImpl
+		transactionTemplate.executeWithoutResult(status ->
+				entityManager.persist(sinistre(entityManager.getReference(Contrat.class, id))));
+
+		int collection = transactionTemplate.execute(status -> contratRepository.findById(id).orElseThrow().getSinistres().size());
+		int requete = transactionTemplate.execute(status -> nombreSinistresCharges(id));
+
+		assertThat(collection).isEqualTo(4);
+		assertThat(requete).isEqualTo(4);
+	}
+
+	@Test
+	void updateThroughEntityRefreshesCachedContrat() {
+		Long id = creerContrat(0);
+		transactionTemplate.execute(status -> contratRepository.findById(id).orElseThrow());
+
+		transactionTemplate.executeWithoutResult(status ->
+				contratRepository.findById(id).orElseThrow().setNombreSinistres(5));
+		statistics.clear();
+
+		Contrat contrat = transactionTemplate.execute(status -> contratRepository.findById(id).orElseThrow());
+
+		assertThat(contrat.getNombreSinistres()).isEqualTo(5);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	void bulkRecalculEvictsContratRegion() {
+		Long id = creerContrat(2);
+		transactionTemplate.execute(status -> contratRepository.findById(id).orElseThrow());
+
+		transactionTemplate.execute(status -> contratRepository.recalculerTotaux());
+		statistics.clear();
+
+		Contrat contrat = transactionTemplate.execute(status -> contratRepository.findById(id).orElseThrow());
+
+		assertThat(contrat.getNombreSinistres()).isEqualTo(2);
+		assertThat(statistics.getDomainDataRegionStatistics("contrat").getMissCount()).isEqualTo(1);
+	}
+
+	private int nombreSinistresCharges(Long id) {
+		return contratRepository.findWithSinistresById(id).orElseThrow().getSinistres().size();
+	}
+
+	private Long creerContrat(int sinistres) {
+		return transactionTemplate.execute(status -> {
+			Contrat contrat = new Contrat();
+			contrat.setType(TypeContrat.AUTO);
+			contrat.setDateEffet(LocalDate.of(2024, 1, 1));
+			contrat.setDateExpiration(LocalDate.of(2025, 1, 1));
+			contrat.setMontantCouverture(10_000.0);
+			contrat.setClientId(CLIENT_ID);
+			entityManager.persist(contrat);
+			for (int i = 0; i < sinistres; i++) {
+				entityManager.persist(sinistre(contrat));
+			}
+			return contrat.getId();
+		});
+	}
+
+	private static Sinistre sinistre(Contrat contrat) {
+		Sinistre sinistre = new Sinistre();
+		sinistre.setDate(LocalDate.of(2024, 6, 1));
+		sinistre.setDescription("Bris de glace");
+		sinistre.setMontantRéclamé(100.0);
+		sinistre.setMontantRemboursé(50.0);
+		sinistre.setContrat(contrat);
+		return sinistre;
+	}
+}
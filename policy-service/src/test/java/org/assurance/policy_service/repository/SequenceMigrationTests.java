@@ -0,0 +1,68 @@
+package org.assurance.policy_service.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Passage des ids en auto-incrément aux séquences "pooled" (allocationSize 50) : les scripts
+ * MySQL, joués sur H2 en mode MySQL, doivent placer chaque séquence au-delà des ids existants.
+ */
+class SequenceMigrationTests {
+
+	private static final int ALLOCATION = 50;
+
+	@Test
+	void existingRowsPushTheSequencesPastTheirIds() {
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource("existante"));
+		// Schéma tel que ddl-auto le créait avant les séquences
+		jdbc.execute("CREATE TABLE contrat (id BIGINT AUTO_INCREMENT PRIMARY KEY, client_id BIGINT)");
+		jdbc.execute("CREATE TABLE sinistre (id BIGINT AUTO_INCREMENT PRIMARY KEY, contrat_id BIGINT,"
+				+ " CONSTRAINT fk_sinistre_contrat FOREIGN KEY (contrat_id) REFERENCES contrat (id))");
+		for (int i = 0; i < 120; i++) {
+			jdbc.update("INSERT INTO contrat (client_id) VALUES (1)");
+		}
+		for (int i = 0; i < 7; i++) {
+			jdbc.update("INSERT INTO sinistre (contrat_id) VALUES (1)");
+		}
+
+		migrer(jdbc.getDataSource());
+
+		// Optimiseur "pooled" : le premier bloc alloué va de next_val - 49 à next_val
+		assertThat(premierIdAlloue(jdbc, "contrat_seq")).isEqualTo(121);
+		assertThat(premierIdAlloue(jdbc, "sinistre_seq")).isEqualTo(8);
+	}
+
+	@Test
+	void emptyDatabaseStartsTheSequencesAtOne() {
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource("vide"));
+
+		migrer(jdbc.getDataSource());
+
+		assertThat(jdbc.queryForObject("SELECT next_val FROM contrat_seq", Long.class)).isEqualTo(1);
+		assertThat(jdbc.queryForObject("SELECT next_val FROM sinistre_seq", Long.class)).isEqualTo(1);
+	}
+
+	private static long premierIdAlloue(JdbcTemplate jdbc, String sequence) {
+		return jdbc.queryForObject("SELECT next_val FROM " + sequence, Long.class) - ALLOCATION + 1;
+	}
+
+	private static void migrer(DataSource dataSource) {
+		Flyway.configure()
+				.dataSource(dataSource)
+				.locations("classpath:db/migration/mysql")
+				.baselineOnMigrate(true)
+				.baselineVersion("0")
+				.load()
+				.migrate();
+	}
+
+	private static DataSource dataSource(String nom) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + nom + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+	}
+}
@@ -0,0 +1,37 @@
+package org.assurance.policy_service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalyseurTexteTests {
+
+	private final AnalyseurTexte analyseur = new AnalyseurTexte();
+
+	@Test
+	void foldsCaseAccentsAndLigatures() {
+		assertThat(analyseur.termes("DÉGÂT Cœur Ex-æquo")).containsExactly("degat", "coeur", "ex", "aequo");
+	}
+
+	@Test
+	void dropsStopWordsAndPunctuation() {
+		assertThat(analyseur.termes("Le vol de la voiture, dans un parking !")).containsExactly("vol", "voiture", "parking");
+	}
+
+	@Test
+	void reducesSimplePluralsToSingular() {
+		assertThat(analyseur.termes("dégâts des eaux, vitres")).containsExactly("degat", "eau", "vitre");
+	}
+
+	@Test
+	void keepsShortWordsAndNumbersIntact() {
+		assertThat(analyseur.termes("bus 2024s os")).containsExactly("bus", "2024s", "os");
+	}
+
+	@Test
+	void blankTextHasNoTerms() {
+		assertThat(analyseur.termes(null)).isEmpty();
+		assertThat(analyseur.termes("  ")).isEmpty();
+		assertThat(analyseur.termes("le la les")).isEmpty();
+	}
+}
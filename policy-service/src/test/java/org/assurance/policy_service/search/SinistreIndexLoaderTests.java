@@ -0,0 +1,66 @@
+package org.assurance.policy_service.search;
+
+import org.assurance.policy_service.entity.enums.TypeContrat;
+import org.assurance.policy_service.repository.SinistreRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SinistreIndexLoaderTests {
+
+	private final SinistreRepository sinistreRepository = mock(SinistreRepository.class);
+	private final SinistreIndex index = new SinistreIndex(new AnalyseurTexte());
+	private final SinistreIndexLoader loader = new SinistreIndexLoader(sinistreRepository, index, new SansTransaction());
+
+	@Test
+	void indexesEveryClaimAcrossBatchesThenMarksReady() {
+		when(sinistreRepository.streamDocuments()).thenReturn(IntStream.rangeClosed(1, 2500)
+				.mapToObj(i -> new SinistreDocument((long) i, "bris de glace " + i, LocalDate.of(2024, 1, 1), 1L, TypeContrat.AUTO)));
+
+		loader.run(null);
+
+		assertThat(index.taille()).isEqualTo(2500);
+		assertThat(index.rechercher("glace", null, null, null, 0, 1).total()).isEqualTo(2500);
+	}
+
+	@Test
+	void failureIsLoggedAndLeavesTheIndexNotReady() {
+		when(sinistreRepository.streamDocuments()).thenThrow(new DataAccessResourceFailureException("base indisponible"));
+
+		loader.run(null);
+
+		assertThatThrownBy(() -> index.rechercher("glace", null, null, null, 0, 10))
+				.isInstanceOf(IndexNonPretException.class);
+	}
+
+	// Gestionnaire sans ressource : seul le code du chargeur est exercé
+	private static class SansTransaction extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
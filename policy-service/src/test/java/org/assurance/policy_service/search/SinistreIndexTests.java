@@ -0,0 +1,131 @@
+package org.assurance.policy_service.search;
+
+import org.assurance.policy_service.entity.enums.TypeContrat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SinistreIndexTests {
+
+	private SinistreIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new SinistreIndex(new AnalyseurTexte());
+	}
+
+	@Test
+	void searchFailsUntilMarkedReady() {
+		index.indexer(List.of(document(1L, "bris de glace", 1, TypeContrat.AUTO)));
+
+		assertThatThrownBy(() -> rechercher("glace")).isInstanceOf(IndexNonPretException.class);
+	}
+
+	@Test
+	void ranksByTermFrequencyAndRarity() {
+		index.indexer(List.of(
+				document(1L, "dégât des eaux dans la cuisine", 1, TypeContrat.HABITATION),
+				document(2L, "dégâts des eaux, eau partout, fuite d'eau", 2, TypeContrat.HABITATION),
+				document(3L, "vol de voiture", 3, TypeContrat.AUTO),
+				document(4L, "dégât sur la voiture", 4, TypeContrat.AUTO)));
+		index.marquerPret();
+
+		assertThat(ids(rechercher("eau"))).containsExactly(2L, 1L);
+		// "cuisine" n'apparaît qu'une fois dans l'index : il pèse plus que "dégât"
+		assertThat(ids(rechercher("dégât cuisine"))).containsExactly(1L, 4L, 2L);
+	}
+
+	@Test
+	void shorterDocumentRanksFirstForTheSameFrequency() {
+		index.indexer(List.of(
+				document(1L, "incendie du garage et de la maison entière avec le mobilier", 1, TypeContrat.HABITATION),
+				document(2L, "incendie du garage", 2, TypeContrat.HABITATION)));
+		index.marquerPret();
+
+		assertThat(ids(rechercher("incendie"))).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void filtersByTypeAndPeriod() {
+		index.indexer(List.of(
+				document(1L, "vol", 1, TypeContrat.AUTO),
+				document(2L, "vol", 10, TypeContrat.AUTO),
+				document(3L, "vol", 10, TypeContrat.HABITATION)));
+		index.marquerPret();
+
+		SinistreIndex.Page page = index.rechercher("vol", LocalDate.of(2024, 1, 5), null, TypeContrat.AUTO, 0, 10);
+
+		assertThat(ids(page)).containsExactly(2L);
+		assertThat(page.total()).isEqualTo(1);
+	}
+
+	@Test
+	void emptyQueryListsMostRecentFirstAndPages() {
+		index.indexer(List.of(
+				document(1L, "vol", 1, TypeContrat.AUTO),
+				document(2L, "bris", 3, TypeContrat.AUTO),
+				document(3L, "incendie", 2, TypeContrat.AUTO)));
+		index.marquerPret();
+
+		SinistreIndex.Page page = index.rechercher("le la", null, null, null, 1, 2);
+
+		assertThat(ids(page)).containsExactly(1L);
+		assertThat(page.total()).isEqualTo(3);
+	}
+
+	@Test
+	void pageBeyondIntegerRangeIsEmpty() {
+		index.indexer(List.of(
+				document(1L, "vol", 1, TypeContrat.AUTO),
+				document(2L, "bris", 2, TypeContrat.AUTO)));
+		index.marquerPret();
+
+		// 30 000 000 * 100 dépasse Integer.MAX_VALUE
+		SinistreIndex.Page page = index.rechercher("", null, null, null, 30_000_000, 100);
+
+		assertThat(ids(page)).isEmpty();
+		assertThat(page.total()).isEqualTo(2);
+	}
+
+	@Test
+	void reindexingReplacesThePreviousDescription() {
+		index.indexer(List.of(document(1L, "bris de glace", 1, TypeContrat.AUTO)));
+		index.indexer(List.of(document(1L, "vol de roue", 1, TypeContrat.AUTO)));
+		index.marquerPret();
+
+		assertThat(index.taille()).isEqualTo(1);
+		assertThat(ids(rechercher("glace"))).isEmpty();
+		assertThat(ids(rechercher("roue"))).containsExactly(1L);
+	}
+
+	@Test
+	void reindexingTheSameDocumentKeepsScoresUnchanged() {
+		List<SinistreDocument> documents = List.of(
+				document(1L, "dégât des eaux", 1, TypeContrat.HABITATION),
+				document(2L, "eau dans la cave", 2, TypeContrat.HABITATION));
+		index.indexer(documents);
+		index.marquerPret();
+		List<SinistreIndex.Resultat> avant = rechercher("eau").resultats();
+
+		index.indexer(documents);
+
+		assertThat(rechercher("eau").resultats()).isEqualTo(avant);
+	}
+
+	private SinistreIndex.Page rechercher(String requete) {
+		return index.rechercher(requete, null, null, null, 0, 10);
+	}
+
+	private static List<Long> ids(SinistreIndex.Page page) {
+		return page.resultats().stream().map(resultat -> resultat.document().id()).toList();
+	}
+
+	private static SinistreDocument document(Long id, String description, int jour, TypeContrat type) {
+		return new SinistreDocument(id, description, LocalDate.of(2024, 1, jour), 100L + id, type);
+	}
+}
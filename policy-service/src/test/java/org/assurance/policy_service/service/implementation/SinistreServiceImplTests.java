@@ -0,0 +1,84 @@
+package org.assurance.policy_service.service.implementation;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.assurance.policy_service.cache.CustomerExistenceCache;
+import org.assurance.policy_service.dto.SinistreBatchResultDTO;
+import org.assurance.policy_service.dto.SinistreRequestDTO;
+import org.assurance.policy_service.entity.Contrat;
+import org.assurance.policy_service.mapper.SinistreMapperImpl;
+import org.assurance.policy_service.repository.ContratRepository;
+import org.assurance.policy_service.repository.SinistreRepository;
+import org.assurance.policy_service.search.SinistreIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SinistreServiceImplTests {
+
+	private final ContratRepository contratRepository = mock(ContratRepository.class);
+	private final CustomerExistenceCache customerExistenceCache = mock(CustomerExistenceCache.class);
+	private final EntityManager entityManager = mock(EntityManager.class);
+
+	private final SinistreServiceImpl service = new SinistreServiceImpl(
+			mock(SinistreRepository.class),
+			new SinistreMapperImpl(),
+			contratRepository,
+			customerExistenceCache,
+			new TransactionTemplate(mock(PlatformTransactionManager.class)),
+			entityManager,
+			mock(SinistreIndex.class),
+			mock(ApplicationEventPublisher.class),
+			Validation.buildDefaultValidatorFactory().getValidator());
+
+	@Test
+	void invalidRowsAreRejectedOneByOne() {
+		Contrat contrat = new Contrat();
+		contrat.setId(1L);
+		contrat.setClientId(10L);
+		when(contratRepository.findAllById(anyIterable())).thenReturn(List.of(contrat));
+		when(customerExistenceCache.existsAll(anySet())).thenReturn(Map.of(10L, true));
+		when(entityManager.find(Contrat.class, 1L)).thenReturn(contrat);
+
+		SinistreRequestDTO sansDate = ligne(null, 100.0, 50.0);
+		SinistreRequestDTO negatif = ligne(LocalDate.now(), -1.0, 0.0);
+		SinistreRequestDTO sansMontants = ligne(LocalDate.now(), null, null);
+		SinistreRequestDTO valide = ligne(LocalDate.now(), 100.0, 50.0);
+
+		List<SinistreBatchResultDTO> resultats = service.declarerSinistres(
+				Arrays.asList(sansDate, negatif, sansMontants, null, valide));
+
+		assertThat(resultats).extracting(SinistreBatchResultDTO::getErreur).containsExactly(
+				"La date du sinistre est obligatoire",
+				"Le montant réclamé ne peut pas être négatif",
+				"Le montant remboursé est obligatoire ; Le montant réclamé est obligatoire",
+				"Ligne vide",
+				null);
+		assertThat(resultats).extracting(SinistreBatchResultDTO::isSucces)
+				.containsExactly(false, false, false, false, true);
+		// Seule la ligne valide compte dans les agrégats du contrat
+		assertThat(contrat.getNombreSinistres()).isEqualTo(1);
+		assertThat(contrat.getTotalReclame()).isEqualTo(100.0);
+	}
+
+	private static SinistreRequestDTO ligne(LocalDate date, Double reclame, Double rembourse) {
+		SinistreRequestDTO dto = new SinistreRequestDTO();
+		dto.setDate(date);
+		dto.setMontantRéclamé(reclame);
+		dto.setMontantRemboursé(rembourse);
+		dto.setContratId(1L);
+		return dto;
+	}
+}